@@ -0,0 +1,41 @@
+#!/bin/sh
+# Measures the startup time and peak RSS of the coin tools in each
+# packaging mode, running tally over the training coin lists.
+#
+# Build first from the project root:
+#   mvn -Pcli package       (target/coincli.jar and target/coincli.jsa)
+#   mvn -Pnative package    (target/coincli, optional)
+#
+# Usage: src/cli/measure-startup.sh [runs]
+# Needs GNU time, at /usr/bin/time or named by $TIME, for the RSS figure.
+
+RUNS=${1:-10}
+DIR=$(cd "$(dirname "$0")/../.." && pwd)
+TARGET=$DIR/target
+INPUT=$DIR/src/cli/training-coins.txt
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+TIME=${TIME:-/usr/bin/time}
+
+# measure <mode> <command...>: prints the mean wall time and mean peak RSS
+measure() {
+    mode=$1
+    shift
+    "$@" tally "$INPUT" > /dev/null || { echo "$mode: failed"; return; }
+    i=0
+    while [ $i -lt "$RUNS" ]; do
+        "$TIME" -f '%e %M' -a -o "$TARGET/measure.tmp" "$@" tally "$INPUT" > /dev/null
+        i=$((i + 1))
+    done
+    awk -v mode="$mode" '{ t += $1; r += $2 }
+        END { printf "%-8s %7.1f ms %8.1f MB\n", mode, 1000 * t / NR, r / NR / 1024 }' "$TARGET/measure.tmp"
+    rm -f "$TARGET/measure.tmp"
+}
+
+printf "%-8s %10s %11s   (mean of %d runs)\n" mode startup "peak RSS" "$RUNS"
+measure jar "$JAVA" -Xshare:auto -jar "$TARGET/coincli.jar"
+if [ -f "$TARGET/coincli.jsa" ]; then
+    measure appcds "$JAVA" -XX:SharedArchiveFile="$TARGET/coincli.jsa" -jar "$TARGET/coincli.jar"
+fi
+if [ -x "$TARGET/coincli" ]; then
+    measure native "$TARGET/coincli"
+fi
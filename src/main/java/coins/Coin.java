@@ -1,4 +1,5 @@
 package coins;
+import java.io.IOException;
 import java.util.Random;
 /**
 * Flippable Money Coin abstract super class.
@@ -95,7 +96,41 @@ private int downSide;
   
   //to string method
   public String toString(){
-    return this.value + " cents";
+    StringBuilder sb = new StringBuilder(16);
+    try {
+      appendTo(sb);
+    } catch (IOException e) {
+      throw new AssertionError(e); //StringBuilder never throws
+    }
+    return sb.toString();
+  }
+  
+  /**
+  * Writes the same text as toString to a destination
+  * one character at a time, without building any strings.
+  * @param out where to write the coin
+  * @throws IOException if out cannot be written
+  */
+  public void appendTo(Appendable out) throws IOException {
+    int cents = getCents();
+    appendDigits(out, cents / 100);
+    out.append('.');
+    int fraction = cents % 100;
+    if (fraction % 10 == 0) {
+      out.append((char) ('0' + fraction / 10)); //0.1, 1.0
+    } else {
+      out.append((char) ('0' + fraction / 10));
+      out.append((char) ('0' + fraction % 10));
+    }
+    out.append(" cents");
+  }
+  
+  //writes the decimal digits of a non-negative int
+  private static void appendDigits(Appendable out, int n) throws IOException {
+    if (n >= 10) {
+      appendDigits(out, n / 10);
+    }
+    out.append((char) ('0' + n % 10));
   }
   
   //compareTo method
@@ -0,0 +1,112 @@
+package coins;
+
+/**
+* Coin denominations and their compact encoding.
+* A coin packs into a small int: the denomination ordinal shifted
+* left one bit, with the up side in the low bit. The name and color
+* of a coin are fixed by its subclass, so nothing else is stored.
+* @author ICS211
+* @since 10/19/2026
+*/
+public enum Denomination {
+  PENNY(1),
+  NICKEL(5),
+  DIME(10),
+  QUARTER(25),
+  HALFDOLLAR(50),
+  DOLLAR(100);
+
+  private static final Denomination[] VALUES = values();
+
+  /** Number of distinct packed codes (every denomination, both sides) */
+  public static final int CODE_COUNT = 2 * VALUES.length;
+
+  private final int cents;
+
+  Denomination(int cents) {
+    this.cents = cents;
+  }
+
+  /**
+  * Returns the value of this denomination.
+  * @return the value in cents
+  */
+  public int getCents() {
+    return cents;
+  }
+
+  /**
+  * Creates a new coin of this denomination.
+  * The up side is randomly tossed by the coin constructor.
+  * @return the new coin
+  */
+  public Coin newCoin() {
+    switch (this) {
+      case PENNY:
+        return new Penny();
+      case NICKEL:
+        return new Nickel();
+      case DIME:
+        return new Dime();
+      case QUARTER:
+        return new Quarter();
+      case HALFDOLLAR:
+        return new HalfDollar();
+      default:
+        return new DollarCoin();
+    }
+  }
+
+  /**
+  * Returns the denomination of a coin.
+  * @param c the coin
+  * @return the denomination of the coin's class
+  * @throws IllegalArgumentException if the coin is not a known subclass
+  */
+  public static Denomination of(Coin c) {
+    Class<?> type = c.getClass();
+    if (type == Penny.class) {
+      return PENNY;
+    } else if (type == Nickel.class) {
+      return NICKEL;
+    } else if (type == Dime.class) {
+      return DIME;
+    } else if (type == Quarter.class) {
+      return QUARTER;
+    } else if (type == HalfDollar.class) {
+      return HALFDOLLAR;
+    } else if (type == DollarCoin.class) {
+      return DOLLAR;
+    }
+    throw new IllegalArgumentException("Unknown coin type: " + type.getName());
+  }
+
+  /**
+  * Returns the denomination stored in a packed code.
+  * @param code the packed coin code
+  * @return the denomination
+  */
+  public static Denomination fromCode(int code) {
+    return VALUES[code >>> 1];
+  }
+
+  /**
+  * Packs a coin into its compact code.
+  * @param c the coin to pack
+  * @return the denomination ordinal and up side packed into one int
+  */
+  public static int pack(Coin c) {
+    return (of(c).ordinal() << 1) | (c.getUpSide() & 1);
+  }
+
+  /**
+  * Creates a coin from a packed code.
+  * @param code the packed coin code
+  * @return a new coin with the encoded denomination and up side
+  */
+  public static Coin unpack(int code) {
+    Coin c = fromCode(code).newCoin();
+    c.setUpSide(code & 1);
+    return c;
+  }
+}
@@ -17,6 +17,10 @@ public abstract class Money {
   public double getValue() {
     return this.value; 
   }
+  //value rounded to whole cents
+  public int getCents() {
+    return (int) Math.round(this.value * 100);
+  }
   //these have to be implemented by subclasses
   public abstract String getName();  
   public abstract String getColor();  
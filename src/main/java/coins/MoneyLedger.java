@@ -0,0 +1,170 @@
+package coins;
+
+import java.util.Arrays;
+
+/**
+* A ledger of Money (coins and bills) kept in insertion order, with a
+* Fenwick tree over the cent values of the entries. The tree lets the
+* ledger answer "total between positions i and j" and "first position
+* where the running total passes X" in O(log n) instead of walking
+* every entry.
+* Positions are zero-based; ranges include from and exclude to.
+* @author ICS211
+* @since 10/19/2026
+*/
+public class MoneyLedger {
+  private Money[] entries;
+  //1-based Fenwick tree: tree[i] is the cents of entries (i - lowbit(i), i]
+  private long[] tree;
+  private int size;
+  
+  /**
+  * Constructs an empty ledger.
+  */
+  public MoneyLedger() {
+    entries = new Money[16];
+    tree = new long[17];
+    size = 0;
+  }
+  
+  /**
+  * Adds an entry at the end of the ledger.
+  * Time complexity: O(log n), amortized over array growth
+  * @param m the money to add
+  * @throws IllegalArgumentException if m has a negative value
+  */
+  public void append(Money m) {
+    long cents = centsOf(m);
+    if (size == entries.length) {
+      entries = Arrays.copyOf(entries, size * 2);
+      tree = Arrays.copyOf(tree, size * 2 + 1);
+    }
+    entries[size] = m;
+    size++;
+    //the new node covers (size - lowbit(size), size]; all but the
+    //last of those entries are already in the tree
+    int p = size;
+    tree[p] = cents + prefix(p - 1) - prefix(p - (p & -p));
+  }
+  
+  /**
+  * Returns the entry at a position.
+  * @param index the position
+  * @return the entry
+  * @throws IndexOutOfBoundsException if index is not a valid position
+  */
+  public Money get(int index) {
+    checkIndex(index);
+    return entries[index];
+  }
+  
+  /**
+  * Replaces the entry at a position.
+  * Time complexity: O(log n)
+  * @param index the position
+  * @param m the new entry
+  * @return the entry that was replaced
+  * @throws IndexOutOfBoundsException if index is not a valid position
+  * @throws IllegalArgumentException if m has a negative value
+  */
+  public Money set(int index, Money m) {
+    checkIndex(index);
+    long delta = centsOf(m) - entries[index].getCents();
+    Money old = entries[index];
+    entries[index] = m;
+    for (int p = index + 1; p <= size; p += p & -p) {
+      tree[p] += delta;
+    }
+    return old;
+  }
+  
+  /**
+  * Returns the number of entries.
+  * @return the ledger size
+  */
+  public int size() {
+    return size;
+  }
+  
+  /**
+  * Returns the value of all entries.
+  * Time complexity: O(log n)
+  * @return the total in cents
+  */
+  public long totalCents() {
+    return prefix(size);
+  }
+  
+  /**
+  * Returns the value of the entries before a position.
+  * Time complexity: O(log n)
+  * @param end the position to stop before, from 0 to size
+  * @return the running total in cents
+  * @throws IndexOutOfBoundsException if end is out of range
+  */
+  public long prefixCents(int end) {
+    if (end < 0 || end > size) {
+      throw new IndexOutOfBoundsException("Invalid position: " + end);
+    }
+    return prefix(end);
+  }
+  
+  /**
+  * Returns the value of the entries from one position up to another.
+  * Time complexity: O(log n)
+  * @param from the first position included
+  * @param to the first position not included
+  * @return the total in cents
+  * @throws IndexOutOfBoundsException if the range is invalid
+  */
+  public long rangeCents(int from, int to) {
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Invalid range: " + from + " to " + to);
+    }
+    return prefix(to) - prefix(from);
+  }
+  
+  /**
+  * Finds the first position where the running total, including that
+  * entry, is more than a given amount.
+  * Time complexity: O(log n)
+  * @param cents the amount to exceed
+  * @return the position, or -1 if even the total does not exceed cents
+  */
+  public int firstIndexExceeding(long cents) {
+    int pos = 0;
+    long remaining = cents;
+    //descend the tree, keeping prefix(pos) <= cents
+    for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+      int next = pos + step;
+      if (next <= size && tree[next] <= remaining) {
+        pos = next;
+        remaining -= tree[next];
+      }
+    }
+    return pos < size ? pos : -1;
+  }
+  
+  //sum of the first n entries
+  private long prefix(int n) {
+    long sum = 0;
+    for (int p = n; p > 0; p -= p & -p) {
+      sum += tree[p];
+    }
+    return sum;
+  }
+  
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid position: " + index);
+    }
+  }
+  
+  private static long centsOf(Money m) {
+    int cents = m.getCents();
+    if (cents < 0) {
+      throw new IllegalArgumentException("Negative money value");
+    }
+    return cents;
+  }
+}
@@ -0,0 +1,294 @@
+package linkedlists;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A first-in first-out queue of SLLNodes that producers and consumers can
+ * wait on. Consumers block in take or poll until an element arrives instead
+ * of spinning on isEmpty, and producers block in put while a bounded queue
+ * is full, which keeps memory bounded when consumers fall behind.
+ *
+ * Waiting uses a ReentrantLock and its Conditions rather than synchronized,
+ * so a waiting virtual thread unmounts from its carrier thread instead of
+ * pinning it. Null elements are not allowed, since poll uses null to mean
+ * the queue is empty.
+ *
+ * @param <T> the type of elements in the queue
+ * @author ICS211
+ * @version 1.0
+ */
+public class BlockingLinkedQueue<T> {
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    /** Oldest node, removed first */
+    private SLLNode<T> head;
+    /** Newest node, where elements are added */
+    private SLLNode<T> tail;
+    private int size;
+
+    /**
+     * Constructs an unbounded queue.
+     */
+    public BlockingLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a queue that holds at most capacity elements.
+     *
+     * @param capacity the most elements the queue holds
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BlockingLinkedQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting while the queue is full.
+     * Time complexity: O(1)
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is room.
+     * Time complexity: O(1)
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (size == capacity) {
+                return false;
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to a timeout for room.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit the unit of timeout
+     * @return true if the element was added, false if the timeout passed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element, waiting until there is one.
+     * Time complexity: O(1)
+     *
+     * @return the first element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element, if there is one.
+     * Time complexity: O(1)
+     *
+     * @return the first element, or null if the queue is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element, waiting up to a timeout for one.
+     *
+     * @param timeout how long to wait
+     * @param unit the unit of timeout
+     * @return the first element, or null if the timeout passed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves every element currently in the queue into a collection, in
+     * order, without waiting.
+     *
+     * @param target the collection to add the elements to
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super T> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to maxElements elements from the front of the queue into a
+     * collection, in order, without waiting. The chain is detached under
+     * the lock and copied into the collection after it is released.
+     *
+     * @param target the collection to add the elements to
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        Objects.requireNonNull(target);
+        SLLNode<T> first;
+        int n;
+        lock.lock();
+        try {
+            n = Math.min(size, maxElements);
+            if (n <= 0) {
+                return 0;
+            }
+            first = head;
+            SLLNode<T> last = head;
+            for (int i = 1; i < n; i++) {
+                last = last.next;
+            }
+            head = last.next;
+            last.next = null;
+            if (head == null) {
+                tail = null;
+            }
+            size -= n;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (SLLNode<T> node = first; node != null; node = node.next) {
+            target.add(node.data);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of elements in the queue.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue holds no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns how many more elements can be added without waiting.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Links a new node at the tail. Must hold the lock. */
+    private void enqueue(T element) {
+        SLLNode<T> newNode = new SLLNode<T>(element);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        notEmpty.signal();
+    }
+
+    /** Unlinks the head node. Must hold the lock and the queue must not be empty. */
+    private T dequeue() {
+        SLLNode<T> first = head;
+        head = first.next;
+        if (head == null) {
+            tail = null;
+        }
+        first.next = null;
+        size--;
+        notFull.signal();
+        return first.data;
+    }
+}
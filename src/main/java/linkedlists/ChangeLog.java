@@ -0,0 +1,210 @@
+package linkedlists;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of the mutation batches applied to a list.
+ * Each batch is written and flushed before it is applied, so replaying
+ * the log into an empty list rebuilds the list after a restart. A record
+ * that was only partly written when the process stopped is detected by
+ * its checksum and ignored on replay, and it is cut off the end of the
+ * file when the log is next opened, so new batches follow the last
+ * complete one.
+ *
+ * Only changes made through {@link #apply} are recorded.
+ *
+ * @param <T> the type of elements in the logged list
+ * @author ICS211
+ * @version 1.0
+ */
+public class ChangeLog<T> implements Closeable {
+    /** Bytes before the payload of a record: its length and checksum */
+    private static final int RECORD_HEADER = 8;
+
+    private final ElementCodec<T> codec;
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Opens a log file for appending, creating it if needed. Anything after
+     * the last complete record, such as a record torn by a crash, is
+     * truncated first.
+     *
+     * @param file the log file
+     * @param codec converts elements to bytes
+     * @throws IOException if the file cannot be opened
+     */
+    public ChangeLog(Path file, ElementCodec<T> codec) throws IOException {
+        this.codec = codec;
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(validLength(file));
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+
+    /**
+     * Logs a batch and then applies it to a list. The batch is checked
+     * first, so a batch that would fail is never logged.
+     *
+     * @param list the list to change
+     * @param batch the mutations to log and apply
+     * @throws IOException if the log cannot be written
+     * @throws ListException if a position in the batch is invalid
+     */
+    public void apply(SingleLinkedList<T> list, MutationBatch<T> batch) throws IOException {
+        long[] keys = batch.sortedKeys(list.size());
+        append(batch);
+        list.apply(batch, keys);
+    }
+
+    /**
+     * Writes a batch to the log and flushes it.
+     * Record layout: length, checksum, then the mutation count and each
+     * mutation as kind, position and (for inserts) the element.
+     *
+     * @param batch the mutations to log
+     * @throws IOException if the log cannot be written
+     */
+    public void append(MutationBatch<T> batch) throws IOException {
+        record.reset();
+        recordOut.writeInt(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            recordOut.writeByte(batch.kind(i));
+            recordOut.writeInt(batch.position(i));
+            if (batch.kind(i) == MutationBatch.INSERT) {
+                codec.write(recordOut, batch.element(i));
+            }
+        }
+        recordOut.flush();
+        crc.reset();
+        crc.update(record.toByteArray());
+        out.writeInt(record.size());
+        out.writeInt((int) crc.getValue());
+        record.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Applies every complete batch in a log file to a list, in order.
+     * Replaying into an empty list rebuilds the list that was logged.
+     *
+     * @param <T> the type of elements in the list
+     * @param file the log file
+     * @param codec converts bytes back to elements
+     * @param list the list to apply the batches to
+     * @return the number of batches replayed
+     * @throws IOException if the log cannot be read
+     * @throws ListException if a logged batch does not fit the list
+     */
+    public static <T> int replay(Path file, ElementCodec<T> codec, SingleLinkedList<T> list)
+            throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int batches = 0;
+        long remaining = Files.size(file);
+        CRC32 check = new CRC32();
+        MutationBatch<T> batch = new MutationBatch<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (byte[] bytes = readRecord(in, remaining, check); bytes != null;
+                    bytes = readRecord(in, remaining, check)) {
+                remaining -= RECORD_HEADER + bytes.length;
+                DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(bytes));
+                batch.clear();
+                int count = recordIn.readInt();
+                for (int i = 0; i < count; i++) {
+                    int kind = recordIn.readByte();
+                    int position = recordIn.readInt();
+                    if (kind == MutationBatch.INSERT) {
+                        batch.insert(position, codec.read(recordIn));
+                    } else {
+                        batch.remove(position);
+                    }
+                }
+                list.apply(batch);
+                batches++;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the number of bytes at the start of a log file that hold
+     * complete records.
+     * Time complexity: O(n) where n is the size of the file
+     *
+     * @param file the log file
+     * @return the offset just after the last complete record
+     * @throws IOException if the file cannot be read
+     */
+    static long validLength(Path file) throws IOException {
+        long size = Files.size(file);
+        long valid = 0;
+        CRC32 check = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (byte[] bytes = readRecord(in, size - valid, check); bytes != null;
+                    bytes = readRecord(in, size - valid, check)) {
+                valid += RECORD_HEADER + bytes.length;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Reads the payload of the next record.
+     *
+     * @param in the log, positioned at the start of a record
+     * @param remaining the bytes left in the file from that position
+     * @param check the checksum to reuse
+     * @return the payload, or null at the end of the log or at a record that
+     *         is cut short, has a bad length or fails its checksum
+     * @throws IOException if the log cannot be read
+     */
+    private static byte[] readRecord(DataInputStream in, long remaining, CRC32 check)
+            throws IOException {
+        if (remaining < RECORD_HEADER) {
+            return null;
+        }
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length < 0 || length > remaining - RECORD_HEADER) {
+            return null; // garbage length, or a record cut short
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        check.reset();
+        check.update(bytes);
+        return (int) check.getValue() == checksum ? bytes : null; // torn write
+    }
+
+    /**
+     * Flushes and closes the log file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
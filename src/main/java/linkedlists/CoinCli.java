@@ -0,0 +1,213 @@
+package linkedlists;
+
+import coins.Denomination;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Command line entry point for the coin tools, meant for short runs from
+ * scripts. The first argument picks the tool:
+ * <ul>
+ * <li>{@code tally [file ...]} reads coin lists, one per line, from the
+ * files or from standard input, and prints a summary of each</li>
+ * <li>{@code driver} runs ListDriver</li>
+ * <li>{@code demo} runs CoinListDemo</li>
+ * <li>{@code nodes} runs SLLNode.main</li>
+ * </ul>
+ * A coin list is a line of denomination names separated by spaces or
+ * commas, e.g. {@code quarter dime dime penny}. Case does not matter, and
+ * {@code half-dollar} is read as {@code halfdollar}. Blank lines and lines
+ * starting with # are skipped.
+ *
+ * For each coin list, tally prints the number of coins, the number of
+ * different denominations and the total value, e.g.
+ * {@code 4 coins, 3 kinds, $0.46}. A line with an unknown coin is reported
+ * on standard error, in order with the summaries before it, and the exit
+ * status is 1.
+ *
+ * Startup time matters more than throughput here, so this class keeps
+ * to plain loops and a CoinList, and loads as few classes as it can.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class CoinCli {
+
+    /**
+     * Runs the tool named by the first argument, tally by default.
+     *
+     * @param args the tool name followed by its arguments
+     * @throws IOException if an input file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        String tool = args.length > 0 ? args[0] : "tally";
+        switch (tool) {
+            case "tally":
+                if (!tallyAll(args)) {
+                    System.exit(1);
+                }
+                break;
+            case "driver":
+                ListDriver.main(new String[0]);
+                break;
+            case "demo":
+                CoinListDemo.main(new String[0]);
+                break;
+            case "nodes":
+                SLLNode.main(new String[0]);
+                break;
+            default:
+                System.err.println("Unknown tool: " + tool);
+                System.err.println("Usage: CoinCli [tally [file ...] | driver | demo | nodes]");
+                System.exit(2);
+        }
+    }
+
+    /**
+     * Tallies standard input, or each file named after the tool name.
+     *
+     * @param args the tool name followed by any files
+     * @return true if every line was valid
+     * @throws IOException if an input file cannot be read
+     */
+    private static boolean tallyAll(String[] args) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        boolean valid = true;
+        try {
+            if (args.length <= 1) {
+                valid = tally(new InputStreamReader(System.in, StandardCharsets.UTF_8), "stdin", out);
+            } else {
+                for (int i = 1; i < args.length; i++) {
+                    try (Reader in = Files.newBufferedReader(Paths.get(args[i]), StandardCharsets.UTF_8)) {
+                        valid &= tally(in, args[i], out);
+                    }
+                }
+            }
+        } finally {
+            out.flush();
+        }
+        return valid;
+    }
+
+    /**
+     * Tallies every coin list read from a source.
+     * Time complexity: O(n) where n is the number of characters read
+     *
+     * @param source the coin lists, one per line
+     * @param name the name of the source, for error messages
+     * @param out where to write the summaries; flushed before each error so
+     *        errors appear in order with the summaries
+     * @return true if every line was valid
+     * @throws IOException if the source cannot be read or out cannot be written
+     */
+    static boolean tally(Reader source, String name, Writer out) throws IOException {
+        BufferedReader in = source instanceof BufferedReader
+                ? (BufferedReader) source : new BufferedReader(source);
+        StringBuilder line = new StringBuilder();
+        boolean valid = true;
+        int lineNumber = 0;
+        for (String text = in.readLine(); text != null; text = in.readLine()) {
+            lineNumber++;
+            String trimmed = text.trim();
+            if (trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+                continue;
+            }
+            CoinList coins = new CoinList();
+            String unknown = parse(trimmed, coins);
+            if (unknown != null) {
+                out.flush();
+                System.err.println(name + ":" + lineNumber + ": unknown coin '" + unknown + "'");
+                valid = false;
+                continue;
+            }
+            line.setLength(0);
+            appendCount(line, coins.size(), "coin");
+            line.append(", ");
+            appendCount(line, coins.countUniques(), "kind");
+            line.append(", ");
+            appendDollars(line, coins.sumCents());
+            out.append(line).append('\n');
+        }
+        return valid;
+    }
+
+    /**
+     * Adds the coins named on a line to a list. Every coin is added heads
+     * up, so the list counts one kind per denomination.
+     *
+     * @param text the names, separated by spaces or commas
+     * @param coins the list to add the coins to
+     * @return the first name that is not a denomination, or null
+     */
+    private static String parse(String text, CoinList coins) {
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            while (i < length && isSeparator(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !isSeparator(text.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                Denomination d = denomination(text.substring(start, i));
+                if (d == null) {
+                    return text.substring(start, i);
+                }
+                coins.addLast(Denomination.unpack(d.ordinal() << 1));
+            }
+        }
+        return null;
+    }
+
+    /** Returns the denomination with a name, ignoring case, '-' and '_', or null. */
+    private static Denomination denomination(String word) {
+        StringBuilder name = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c != '-' && c != '_') {
+                name.append(Character.toUpperCase(c));
+            }
+        }
+        String key = name.toString();
+        for (Denomination d : Denomination.values()) {
+            if (d.name().equals(key)) {
+                return d;
+            }
+        }
+        return null;
+    }
+
+    /** Returns true for the characters that separate coin names. */
+    private static boolean isSeparator(char c) {
+        return c == ',' || Character.isWhitespace(c);
+    }
+
+    /** Appends a count and a noun, plural unless the count is 1, e.g. 3 coins. */
+    private static void appendCount(StringBuilder out, int count, String noun) {
+        out.append(count).append(' ').append(noun);
+        if (count != 1) {
+            out.append('s');
+        }
+    }
+
+    /** Appends an amount of cents as dollars, e.g. $2.05. */
+    private static void appendDollars(StringBuilder out, long cents) {
+        out.append('$').append(cents / 100).append('.');
+        long rest = cents % 100;
+        if (rest < 10) {
+            out.append('0');
+        }
+        out.append(rest);
+    }
+}
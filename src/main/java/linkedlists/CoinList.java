@@ -0,0 +1,356 @@
+package linkedlists;
+
+import coins.Coin;
+import coins.Denomination;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A compact list of coins that stores each coin as one byte: the code from
+ * {@link Denomination#pack(Coin)}, holding the denomination and up side.
+ * A coin's name and color are fixed by its class, so nothing else needs
+ * storing. Coins are only created, lazily, when get, removeFirst or the
+ * iterator hand one out; they are fresh objects each time.
+ *
+ * The bytes live in a growable circular array, so adding or removing at
+ * either end is O(1), and inserting or removing in the middle shifts
+ * whichever side of the position is shorter.
+ *
+ * Coins are compared by denomination and up side.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class CoinList implements List<Coin>, Iterable<Coin> {
+    /** Packed codes; capacity is always a power of two */
+    private byte[] codes;
+    /** Array index of the first coin */
+    private int head;
+    /** The current number of coins in the list */
+    private int size;
+
+    /**
+     * Constructs an empty coin list.
+     */
+    public CoinList() {
+        codes = new byte[16];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds a coin to the front of the list.
+     * Time complexity: O(1) amortized
+     *
+     * @param element the coin to add
+     */
+    @Override
+    public void add(Coin element) {
+        byte code = (byte) Denomination.pack(element);
+        ensureCapacity();
+        head = (head - 1) & (codes.length - 1);
+        codes[head] = code;
+        size++;
+    }
+
+    /**
+     * Adds a coin to the end of the list.
+     * Time complexity: O(1) amortized
+     *
+     * @param element the coin to add
+     */
+    @Override
+    public void addLast(Coin element) {
+        byte code = (byte) Denomination.pack(element);
+        ensureCapacity();
+        codes[slot(size)] = code;
+        size++;
+    }
+
+    /**
+     * Inserts a coin at a specific position in the list.
+     * Time complexity: O(min(position, n - position))
+     *
+     * @param position the position to insert the coin at
+     * @param element the coin to insert
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public void insert(int position, Coin element) throws ListException {
+        if (position < 0 || position > size) {
+            throw new ListException("Invalid position");
+        }
+        byte code = (byte) Denomination.pack(element);
+        ensureCapacity();
+        if (position < size / 2) {
+            // shift the front part one place toward the front
+            head = (head - 1) & (codes.length - 1);
+            for (int i = 0; i < position; i++) {
+                codes[slot(i)] = codes[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > position; i--) {
+                codes[slot(i)] = codes[slot(i - 1)];
+            }
+        }
+        codes[slot(position)] = code;
+        size++;
+    }
+
+    /**
+     * Retrieves the coin at a specific position in the list.
+     * Time complexity: O(1)
+     *
+     * @param position the position of the coin
+     * @return a new coin with the stored denomination and up side
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public Coin get(int position) throws ListException {
+        return Denomination.unpack(packedAt(position));
+    }
+
+    /**
+     * Returns the packed code of the coin at a position, without creating a coin.
+     * Time complexity: O(1)
+     *
+     * @param position the position of the coin
+     * @return the packed code
+     * @throws ListException if the position is invalid
+     */
+    public int packedAt(int position) throws ListException {
+        if (position < 0 || position >= size) {
+            throw new ListException("Invalid position");
+        }
+        return codes[slot(position)];
+    }
+
+    /**
+     * Removes the first coin with the same denomination and up side.
+     * Time complexity: O(n) where n is the number of coins in the list
+     *
+     * @param element the coin to remove
+     * @return true if a matching coin was removed, false otherwise
+     */
+    @Override
+    public boolean remove(Coin element) {
+        int position = indexOf(Denomination.pack(element));
+        if (position < 0) {
+            return false;
+        }
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first coin in the list.
+     * Time complexity: O(1)
+     *
+     * @return the removed coin
+     * @throws ListException if the list is empty
+     */
+    @Override
+    public Coin removeFirst() throws ListException {
+        if (size == 0) {
+            throw new ListException("List is empty");
+        }
+        int code = codes[head];
+        head = (head + 1) & (codes.length - 1);
+        size--;
+        return Denomination.unpack(code);
+    }
+
+    /**
+     * Removes and returns the coin at a specific position in the list.
+     * Time complexity: O(min(position, n - position))
+     *
+     * @param position the position of the coin to remove
+     * @return the removed coin
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public Coin remove(int position) throws ListException {
+        int code = packedAt(position);
+        if (position < size / 2) {
+            // shift the front part one place toward the back
+            for (int i = position; i > 0; i--) {
+                codes[slot(i)] = codes[slot(i - 1)];
+            }
+            head = (head + 1) & (codes.length - 1);
+        } else {
+            for (int i = position; i < size - 1; i++) {
+                codes[slot(i)] = codes[slot(i + 1)];
+            }
+        }
+        size--;
+        return Denomination.unpack(code);
+    }
+
+    /**
+     * Checks if the list contains a coin with the same denomination and up side.
+     * Time complexity: O(n) where n is the number of coins in the list
+     *
+     * @param element the coin to search for
+     * @return true if a matching coin is found, false otherwise
+     */
+    @Override
+    public boolean contains(Coin element) {
+        return indexOf(Denomination.pack(element)) >= 0;
+    }
+
+    /**
+     * Returns the number of coins in the list.
+     * Time complexity: O(1)
+     *
+     * @return the number of coins
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     * Time complexity: O(1)
+     *
+     * @return true if the list contains no coins, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of distinct denomination and up side pairs.
+     * Time complexity: O(n) where n is the number of coins in the list
+     *
+     * @return the count of unique coins in the list
+     */
+    @Override
+    public int countUniques() {
+        boolean[] seen = new boolean[Denomination.CODE_COUNT];
+        int uniqueCount = 0;
+        for (int i = 0; i < size && uniqueCount < seen.length; i++) {
+            int code = codes[slot(i)];
+            if (!seen[code]) {
+                seen[code] = true;
+                uniqueCount++;
+            }
+        }
+        return uniqueCount;
+    }
+
+    /**
+     * Adds up the value of every coin without creating any coins.
+     * Time complexity: O(n) where n is the number of coins in the list
+     *
+     * @return the total value in cents
+     */
+    public long sumCents() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += Denomination.fromCode(codes[slot(i)]).getCents();
+        }
+        return total;
+    }
+
+    /**
+     * Passes the packed code of every coin, in order, to an action.
+     *
+     * @param action receives each packed code
+     */
+    public void forEachPacked(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(codes[slot(i)]);
+        }
+    }
+
+    /**
+     * Returns an iterator that creates each coin as it is reached.
+     *
+     * @return an iterator over the coins in list order
+     */
+    @Override
+    public Iterator<Coin> iterator() {
+        return new Iterator<Coin>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Coin next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return Denomination.unpack(codes[slot(next++)]);
+            }
+        };
+    }
+
+    /** toString returns a string representation of the first
+     * SingleLinkedList.DEFAULT_TO_STRING_LIMIT coins of the list */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, SingleLinkedList.DEFAULT_TO_STRING_LIMIT);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes at most maxElements coins to a destination, in the same format
+     * as SingleLinkedList.writeTo.
+     * Time complexity: O(min(n, maxElements))
+     *
+     * @param out where to write the coins, such as a Writer
+     * @param maxElements the most coins to write
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        int written = Math.min(size, Math.max(maxElements, 0));
+        for (int i = 0; i < written; i++) {
+            if (i > 0) {
+                out.append(" -> ");
+            }
+            Denomination.unpack(codes[slot(i)]).appendTo(out);
+        }
+        SingleLinkedList.writeRemainder(out, written, size - written);
+    }
+
+    /** Returns the position of the first coin with a code, or -1. */
+    private int indexOf(int code) {
+        for (int i = 0; i < size; i++) {
+            if (codes[slot(i)] == code) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the array index of a list position. */
+    private int slot(int position) {
+        return (head + position) & (codes.length - 1);
+    }
+
+    /** Doubles the array, unwrapping it, when it is full. */
+    private void ensureCapacity() {
+        if (size < codes.length) {
+            return;
+        }
+        byte[] bigger = new byte[codes.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = codes[slot(i)];
+        }
+        codes = bigger;
+        head = 0;
+    }
+}
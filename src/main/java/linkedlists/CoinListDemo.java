@@ -78,6 +78,9 @@ public class CoinListDemo {
             // Calculate total value of coins in the list
             double totalValue = calculateTotalValue(coinList);
             System.out.println("Total value of coins in list: $" + String.format("%.2f", totalValue));
+            long silverCents = ListView.sumCents(coinList.view()
+                    .filter(coin -> coin.getColor().equalsIgnoreCase("silver")));
+            System.out.println("Total value of silver coins: $" + String.format("%.2f", silverCents / 100.0));
             System.out.println();
             
             // Test removeFirst method
@@ -110,39 +113,13 @@ public class CoinListDemo {
     
     /**
      * Calculates the total monetary value of all coins in the list.
-     * Note: This method uses a destructive approach since the current
-     * SingleLinkedList implementation doesn't have an iterator.
+     * Adds up whole cents through a view of the list, so the list is
+     * left untouched and no floating point error builds up.
      * 
      * @param coinList the list of coins
      * @return the total value in dollars
      */
     private static double calculateTotalValue(SingleLinkedList<Coin> coinList) {
-        double total = 0.0;
-        
-        // Create a temporary list to preserve the original
-        SingleLinkedList<Coin> tempList = new SingleLinkedList<>();
-        
-        // Move all coins from original list to temp list while calculating total
-        while (!coinList.isEmpty()) {
-            try {
-                Coin coin = coinList.removeFirst();
-                total += coin.getValue();
-                tempList.add(coin);
-            } catch (ListException e) {
-                break; // Should not happen since we check isEmpty()
-            }
-        }
-        
-        // Restore the original list by moving coins back
-        while (!tempList.isEmpty()) {
-            try {
-                Coin coin = tempList.removeFirst();
-                coinList.add(coin);
-            } catch (ListException e) {
-                break; // Should not happen since we check isEmpty()
-            }
-        }
-        
-        return total;
+        return ListView.sumCents(coinList.view()) / 100.0;
     }
 }
\ No newline at end of file
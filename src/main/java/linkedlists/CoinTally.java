@@ -0,0 +1,112 @@
+package linkedlists;
+
+import coins.Coin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Totals for a group of coins: value in cents, count by coin class,
+ * count by color and count by up side. Tallies of separate groups can be
+ * combined, which is how {@link ParallelCoinAggregator} merges the
+ * results of its segments.
+ *
+ * Counters are held in long[1] cells so adding a coin allocates nothing
+ * once its class and color have been seen.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class CoinTally {
+    /** Up side value treated as heads */
+    public static final int HEADS = 0;
+    /** Up side value treated as tails */
+    public static final int TAILS = 1;
+
+    private long count;
+    private long totalCents;
+    private final long[] bySide = new long[2];
+    private final HashMap<Class<? extends Coin>, long[]> byType = new HashMap<>();
+    private final HashMap<String, long[]> byColor = new HashMap<>();
+
+    /**
+     * Adds one coin to the tally.
+     *
+     * @param coin the coin to count
+     */
+    public void add(Coin coin) {
+        count++;
+        totalCents += coin.getCents();
+        bySide[coin.getUpSide() == HEADS ? HEADS : TAILS]++;
+        byType.computeIfAbsent(coin.getClass(), type -> new long[1])[0]++;
+        byColor.computeIfAbsent(coin.getColor(), color -> new long[1])[0]++;
+    }
+
+    /**
+     * Adds another tally's totals into this one.
+     *
+     * @param other the tally to add
+     */
+    public void combine(CoinTally other) {
+        count += other.count;
+        totalCents += other.totalCents;
+        bySide[HEADS] += other.bySide[HEADS];
+        bySide[TAILS] += other.bySide[TAILS];
+        for (Map.Entry<Class<? extends Coin>, long[]> e : other.byType.entrySet()) {
+            byType.computeIfAbsent(e.getKey(), type -> new long[1])[0] += e.getValue()[0];
+        }
+        for (Map.Entry<String, long[]> e : other.byColor.entrySet()) {
+            byColor.computeIfAbsent(e.getKey(), color -> new long[1])[0] += e.getValue()[0];
+        }
+    }
+
+    /**
+     * @return the number of coins counted
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the total value of the coins, in cents
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * @return the number of coins showing heads (up side 0)
+     */
+    public long getHeads() {
+        return bySide[HEADS];
+    }
+
+    /**
+     * @return the number of coins showing tails (any other up side)
+     */
+    public long getTails() {
+        return bySide[TAILS];
+    }
+
+    /**
+     * @return the number of coins of each Coin subclass
+     */
+    public Map<Class<? extends Coin>, Long> getCountByType() {
+        Map<Class<? extends Coin>, Long> result = new HashMap<>();
+        for (Map.Entry<Class<? extends Coin>, long[]> e : byType.entrySet()) {
+            result.put(e.getKey(), e.getValue()[0]);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of coins of each color, as given by getColor
+     */
+    public Map<String, Long> getCountByColor() {
+        Map<String, Long> result = new HashMap<>();
+        for (Map.Entry<String, long[]> e : byColor.entrySet()) {
+            result.put(e.getKey(), e.getValue()[0]);
+        }
+        return result;
+    }
+}
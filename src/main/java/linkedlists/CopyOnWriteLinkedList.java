@@ -0,0 +1,343 @@
+package linkedlists;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe singly linked list for data that is read constantly and
+ * changed rarely. Readers take no lock: each read works on the snapshot
+ * held in a volatile field, and nodes are never changed once published.
+ *
+ * Writers take a lock and publish a new snapshot. Only the nodes before
+ * the changed position are copied; the unchanged suffix of the chain is
+ * shared with the old snapshot. Adding to the front therefore copies
+ * nothing, while addLast copies the whole list. Iterators and views see
+ * the snapshot current when they started, no matter what writers do.
+ *
+ * @param <T> the type of elements stored in this list
+ * @author ICS211
+ * @version 1.0
+ */
+public class CopyOnWriteLinkedList<T> implements List<T>, Iterable<T> {
+    /** An immutable head and size pair, replaced as a whole by writers */
+    private static final class Snapshot<T> {
+        final SLLNode<T> head;
+        final int size;
+
+        Snapshot(SLLNode<T> head, int size) {
+            this.head = head;
+            this.size = size;
+        }
+    }
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(null, 0);
+
+    /**
+     * Adds an element to the front of the list, sharing the whole old chain.
+     * Time complexity: O(1)
+     *
+     * @param element the element to be added to the front of the list
+     */
+    @Override
+    public void add(T element) {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            snapshot = new Snapshot<>(new SLLNode<>(element, s.head), s.size + 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list. Every node has to be copied.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the element to be added to the end of the list
+     */
+    @Override
+    public void addLast(T element) {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            snapshot = new Snapshot<>(copyPrefix(s.head, s.size, new SLLNode<>(element)), s.size + 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at a specific position, copying the nodes before it.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position to insert the element at
+     * @param element the element to insert
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public void insert(int position, T element) throws ListException {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            if (position < 0 || position > s.size) {
+                throw new ListException("Invalid position");
+            }
+            SLLNode<T> newNode = new SLLNode<>(element, nodeAt(s.head, position));
+            snapshot = new Snapshot<>(copyPrefix(s.head, position, newNode), s.size + 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves an element from a specific position, without locking.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position of the element to retrieve
+     * @return the element at the specified position
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public T get(int position) throws ListException {
+        Snapshot<T> s = snapshot;
+        if (position < 0 || position >= s.size) {
+            throw new ListException("Invalid position");
+        }
+        return nodeAt(s.head, position).data;
+    }
+
+    /**
+     * Removes the first occurrence of an element, copying the nodes before it.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the element to be removed from the list
+     * @return true if the element was found and removed, false otherwise
+     */
+    @Override
+    public boolean remove(T element) {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            int index = 0;
+            SLLNode<T> current = s.head;
+            while (current != null && !current.data.equals(element)) {
+                current = current.next;
+                index++;
+            }
+            if (current == null) {
+                return false;
+            }
+            snapshot = new Snapshot<>(copyPrefix(s.head, index, current.next), s.size - 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element, sharing the rest of the chain.
+     * Time complexity: O(1)
+     *
+     * @return the first element that was removed from the list
+     * @throws ListException if the list is empty
+     */
+    @Override
+    public T removeFirst() throws ListException {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            if (s.head == null) {
+                throw new ListException("List is empty");
+            }
+            snapshot = new Snapshot<>(s.head.next, s.size - 1);
+            return s.head.data;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at a position, copying the nodes before it.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the zero-based index of the element to remove
+     * @return the element that was removed from the list
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public T remove(int position) throws ListException {
+        writeLock.lock();
+        try {
+            Snapshot<T> s = snapshot;
+            if (position < 0 || position >= s.size) {
+                throw new ListException("Invalid position");
+            }
+            SLLNode<T> removed = nodeAt(s.head, position);
+            snapshot = new Snapshot<>(copyPrefix(s.head, position, removed.next), s.size - 1);
+            return removed.data;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the list contains an element, without locking.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the element to search for in the list
+     * @return true if the element is found in the list, false otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (SLLNode<T> current = snapshot.head; current != null; current = current.next) {
+            if (current.data.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in the current snapshot.
+     * Time complexity: O(1)
+     *
+     * @return the number of elements currently in the list
+     */
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Checks if the current snapshot is empty.
+     * Time complexity: O(1)
+     *
+     * @return true if the list contains no elements, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return snapshot.size == 0;
+    }
+
+    /**
+     * Returns the number of unique elements in the current snapshot, using
+     * only the linked structure, as SingleLinkedList does.
+     * Time complexity: O(n²) where n is the number of elements in the list
+     * Space complexity: O(1)
+     *
+     * @return the count of unique elements in the list
+     */
+    @Override
+    public int countUniques() {
+        SLLNode<T> first = snapshot.head;
+        int uniqueCount = 0;
+        for (SLLNode<T> current = first; current != null; current = current.next) {
+            SLLNode<T> checker = first;
+            while (checker != current && !checker.data.equals(current.data)) {
+                checker = checker.next;
+            }
+            if (checker == current) {
+                uniqueCount++; // no duplicate earlier in the list
+            }
+        }
+        return uniqueCount;
+    }
+
+    /**
+     * Returns an iterator over the snapshot current when it is created.
+     * It never sees later changes and never fails because of them.
+     *
+     * @return an iterator over the elements in list order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        SLLNode<T> first = snapshot.head;
+        return new Iterator<T>() {
+            private SLLNode<T> node = first;
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            public T next() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = node.data;
+                node = node.next;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy view of the list. Each terminal operation runs on the
+     * snapshot current when it starts.
+     *
+     * @return a view of this list
+     */
+    public ListView<T> view() {
+        return ListView.ofNodes(() -> snapshot.head);
+    }
+
+    /** toString returns a string representation of the elements of the list,
+     * truncated after SingleLinkedList.DEFAULT_TO_STRING_LIMIT elements */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, SingleLinkedList.DEFAULT_TO_STRING_LIMIT);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes at most maxElements elements of the current snapshot to a
+     * destination, in the same format as SingleLinkedList.writeTo.
+     *
+     * @param out where to write the elements, such as a Writer
+     * @param maxElements the most elements to write
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        Snapshot<T> s = snapshot;
+        SingleLinkedList.writeNodes(out, s.head, s.size, maxElements);
+    }
+
+    /** Returns the node at a position in a chain. */
+    private static <T> SLLNode<T> nodeAt(SLLNode<T> first, int position) {
+        SLLNode<T> current = first;
+        for (int i = 0; i < position; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    /**
+     * Copies the first count nodes of a chain, linking the last copy to rest.
+     * The copies are not visible to readers until the new snapshot is published.
+     */
+    private static <T> SLLNode<T> copyPrefix(SLLNode<T> first, int count, SLLNode<T> rest) {
+        if (count == 0) {
+            return rest;
+        }
+        SLLNode<T> newHead = new SLLNode<>(first.data);
+        SLLNode<T> last = newHead;
+        SLLNode<T> source = first.next;
+        for (int i = 1; i < count; i++) {
+            SLLNode<T> copy = new SLLNode<>(source.data);
+            last.next = copy;
+            last = copy;
+            source = source.next;
+        }
+        last.next = rest;
+        return newHead;
+    }
+}
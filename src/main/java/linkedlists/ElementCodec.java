@@ -0,0 +1,33 @@
+package linkedlists;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converts list elements to and from bytes, for storing them in a
+ * {@link ChangeLog}.
+ *
+ * @param <T> the type of elements encoded
+ * @author ICS211
+ * @version 1.0
+ */
+public interface ElementCodec<T> {
+    /**
+     * Writes one element.
+     *
+     * @param out where to write the element
+     * @param element the element to write
+     * @throws IOException if out cannot be written
+     */
+    void write(DataOutput out, T element) throws IOException;
+
+    /**
+     * Reads one element written by write.
+     *
+     * @param in where to read the element from
+     * @return the element
+     * @throws IOException if in cannot be read
+     */
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,20 @@
+package linkedlists;
+
+/**
+ * Told about each entry a {@link LinkedCache} evicts to stay within its
+ * capacity. Explicit removes are not reported.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ICS211
+ * @version 1.0
+ */
+public interface EvictionListener<K, V> {
+    /**
+     * Called after an entry has been evicted.
+     *
+     * @param key the evicted key
+     * @param value the evicted value
+     */
+    void evicted(K key, V value);
+}
@@ -0,0 +1,14 @@
+package linkedlists;
+
+/**
+ * How a {@link LinkedCache} picks the entry to evict when it is full.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public enum EvictionPolicy {
+    /** Evict the least recently used entry */
+    LRU,
+    /** Evict the least frequently used entry, least recently used among ties */
+    LFU
+}
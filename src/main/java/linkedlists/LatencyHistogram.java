@@ -0,0 +1,108 @@
+package linkedlists;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free latency histogram with log-linear buckets.
+ * Each power of two is split into 16 sub-buckets, so recorded values are
+ * kept to within about 6% over the whole range of a long, in the style
+ * of HdrHistogram. Recording is a single atomic increment.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    /** Sub-buckets per power of two, as a number of bits */
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records one value.
+     *
+     * @param value the value to record, negative values count as 0
+     */
+    public void record(long value) {
+        counts.incrementAndGet(bucket(Math.max(value, 0)));
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the total count
+     */
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns an approximation of the value at a percentile.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the lowest value of the bucket holding the percentile, or 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return lowestValue(i);
+            }
+        }
+        return lowestValue(BUCKETS - 1);
+    }
+
+    /**
+     * Returns an approximation of the largest recorded value.
+     *
+     * @return the lowest value of the highest non-empty bucket, or 0 if empty
+     */
+    public long getMax() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts.get(i) != 0) {
+                return lowestValue(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /** Returns the bucket index of a non-negative value. */
+    private static int bucket(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    /** Returns the smallest value that falls in a bucket. */
+    private static long lowestValue(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        long sub = bucket % SUB_COUNT;
+        return (1L << exponent) | (sub << (exponent - SUB_BITS));
+    }
+}
@@ -0,0 +1,343 @@
+package linkedlists;
+
+import java.util.HashMap;
+
+/**
+ * A bounded cache that pairs a hash map with an intrusive doubly linked
+ * recency list, so get, put and eviction are all O(1).
+ *
+ * Entries are kept in frequency buckets, themselves linked in ascending
+ * frequency order, and each bucket lists its entries from least to most
+ * recently used. Under LRU every entry stays in one bucket and an access
+ * just moves the entry to the end of it. Under LFU an access moves the
+ * entry to the bucket for the next frequency, creating it if needed. In
+ * both cases the victim is the first entry of the first bucket.
+ *
+ * Capacity is a total weight; with the default weigher every entry
+ * weighs 1 and capacity is an entry count. This class is not thread-safe;
+ * see {@link SegmentedLinkedCache}.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ICS211
+ * @version 1.0
+ */
+public class LinkedCache<K, V> {
+    /** A cached entry, linked into the list of its bucket */
+    private static final class Entry<K, V> {
+        final K key;
+        V value;
+        long weight;
+        Entry<K, V> prev;
+        Entry<K, V> next;
+        Bucket<K, V> bucket;
+
+        Entry(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /** The entries used a given number of times, least recent first */
+    private static final class Bucket<K, V> {
+        final long frequency;
+        Entry<K, V> first;
+        Entry<K, V> last;
+        Bucket<K, V> prev;
+        Bucket<K, V> next;
+
+        Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    private final HashMap<K, Entry<K, V>> map = new HashMap<>();
+    private final long capacity;
+    private final EvictionPolicy policy;
+    private final Weigher<? super K, ? super V> weigher;
+    private EvictionListener<? super K, ? super V> listener;
+    /** Lowest-frequency bucket, or null when the cache is empty */
+    private Bucket<K, V> lowest;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache that holds at most capacity entries.
+     *
+     * @param capacity the most entries to hold
+     * @param policy which entry to evict when full
+     */
+    public LinkedCache(long capacity, EvictionPolicy policy) {
+        this(capacity, policy, (key, value) -> 1);
+    }
+
+    /**
+     * Constructs a cache whose entries may weigh at most capacity in total.
+     *
+     * @param capacity the most total weight to hold
+     * @param policy which entry to evict when full
+     * @param weigher computes the weight of each entry
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public LinkedCache(long capacity, EvictionPolicy policy, Weigher<? super K, ? super V> weigher) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Sets the listener told about evicted entries.
+     *
+     * @param listener the listener, or null for none
+     */
+    public void setEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the value for a key and records the access.
+     * Time complexity: O(1)
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if the key is not cached
+     */
+    public V get(K key) {
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(entry);
+        return entry.value;
+    }
+
+    /**
+     * Caches a value, replacing any value for the same key, and evicts
+     * entries until the cache is within capacity again. Replacing a value
+     * counts as an access.
+     * Time complexity: O(1) plus O(1) per eviction
+     *
+     * @param key the key
+     * @param value the value
+     * @return the value previously cached for the key, or null
+     * @throws IllegalArgumentException if the entry alone weighs more than the capacity
+     */
+    public V put(K key, V value) {
+        long entryWeight = weigher.weigh(key, value);
+        if (entryWeight > capacity) {
+            throw new IllegalArgumentException("Entry weight exceeds cache capacity");
+        }
+        Entry<K, V> entry = map.get(key);
+        if (entry != null) {
+            V old = entry.value;
+            entry.value = value;
+            weight += entryWeight - entry.weight;
+            entry.weight = entryWeight;
+            touch(entry);
+            evictToCapacity();
+            return old;
+        }
+        // make room first so the new entry is never its own victim
+        weight += entryWeight;
+        evictToCapacity();
+        entry = new Entry<>(key, value, entryWeight);
+        map.put(key, entry);
+        Bucket<K, V> first = lowest;
+        if (first == null || first.frequency != 1) {
+            first = new Bucket<>(1);
+            first.next = lowest;
+            if (lowest != null) {
+                lowest.prev = first;
+            }
+            lowest = first;
+        }
+        append(first, entry);
+        return null;
+    }
+
+    /**
+     * Removes a key from the cache. The eviction listener is not called.
+     * Time complexity: O(1)
+     *
+     * @param key the key to remove
+     * @return the value that was cached for the key, or null
+     */
+    public V remove(K key) {
+        Entry<K, V> entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        unlink(entry);
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    /**
+     * Checks if a key is cached, without counting it as an access.
+     *
+     * @param key the key to look for
+     * @return true if the key is cached
+     */
+    public boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    /**
+     * Removes every entry. The eviction listener is not called.
+     */
+    public void clear() {
+        map.clear();
+        lowest = null;
+        weight = 0;
+    }
+
+    /**
+     * @return the number of cached entries
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return the total weight of the cached entries
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * @return the most total weight the cache holds
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the eviction policy
+     */
+    public EvictionPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * @return the number of get calls that found their key
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * @return the number of get calls that did not find their key
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entries evicted to stay within capacity
+     */
+    public long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * @return the fraction of get calls that were hits, or 0 if there were none
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /** Records an access: moves the entry to the end of the next bucket (LFU) or its own (LRU). */
+    private void touch(Entry<K, V> entry) {
+        Bucket<K, V> bucket = entry.bucket;
+        if (policy == EvictionPolicy.LRU) {
+            if (bucket.last != entry) {
+                detach(entry);
+                append(bucket, entry);
+            }
+            return;
+        }
+        long frequency = bucket.frequency + 1;
+        Bucket<K, V> target = bucket.next;
+        if (target == null || target.frequency != frequency) {
+            target = new Bucket<>(frequency);
+            target.prev = bucket;
+            target.next = bucket.next;
+            if (bucket.next != null) {
+                bucket.next.prev = target;
+            }
+            bucket.next = target;
+        }
+        unlink(entry);
+        append(target, entry);
+    }
+
+    /** Evicts from the front of the lowest bucket until within capacity. */
+    private void evictToCapacity() {
+        while (weight > capacity && lowest != null) {
+            Entry<K, V> victim = lowest.first;
+            map.remove(victim.key);
+            unlink(victim);
+            weight -= victim.weight;
+            evictions++;
+            if (listener != null) {
+                listener.evicted(victim.key, victim.value);
+            }
+        }
+    }
+
+    /** Adds an entry at the most recent end of a bucket. */
+    private void append(Bucket<K, V> bucket, Entry<K, V> entry) {
+        entry.bucket = bucket;
+        entry.prev = bucket.last;
+        entry.next = null;
+        if (bucket.last == null) {
+            bucket.first = entry;
+        } else {
+            bucket.last.next = entry;
+        }
+        bucket.last = entry;
+    }
+
+    /** Takes an entry out of its bucket's list, leaving the bucket in place. */
+    private void detach(Entry<K, V> entry) {
+        Bucket<K, V> bucket = entry.bucket;
+        if (entry.prev == null) {
+            bucket.first = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            bucket.last = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /** Takes an entry out of its bucket, dropping the bucket if it is now empty. */
+    private void unlink(Entry<K, V> entry) {
+        Bucket<K, V> bucket = entry.bucket;
+        detach(entry);
+        entry.bucket = null;
+        if (bucket.first == null) {
+            if (bucket.prev == null) {
+                lowest = bucket.next;
+            } else {
+                bucket.prev.next = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+}
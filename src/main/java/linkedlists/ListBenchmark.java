@@ -0,0 +1,687 @@
+package linkedlists;
+
+import coins.Coin;
+import coins.Denomination;
+import coins.Five;
+import coins.Money;
+import coins.MoneyLedger;
+import coins.One;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Simple timing driver for the list implementations.
+ * Run with the name of a benchmark and an optional element count, e.g.
+ * {@code java linkedlists.ListBenchmark mapped 100000000}.
+ * Timings are wall clock and meant for rough comparisons only.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class ListBenchmark {
+
+    /**
+     * Runs the named benchmark.
+     *
+     * @param args the benchmark name followed by an optional element count
+     * @throws Exception if the benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        String name = args.length > 0 ? args[0] : "mapped";
+        switch (name) {
+            case "mapped":
+                mappedScan(count(args, 100_000_000));
+                break;
+            case "finger":
+                fingerIndexLoop(count(args, 100_000));
+                break;
+            case "probe":
+                probeOverhead(count(args, 1_000));
+                break;
+            case "poll":
+                emptyPoll(count(args, 10_000_000));
+                break;
+            case "batch":
+                batchMutations(count(args, 20_000));
+                break;
+            case "cache":
+                cacheAccess(count(args, 1_000_000));
+                break;
+            case "queue":
+                virtualConsumers(count(args, 100_000));
+                break;
+            case "parallel":
+                parallelTally(count(args, 5_000_000));
+                break;
+            case "cow":
+                copyOnWriteReads(count(args, 64));
+                break;
+            case "ledger":
+                ledgerQueries(count(args, 5_000_000));
+                break;
+            case "footprint":
+                coinFootprint(count(args, 1_000_000));
+                break;
+            default:
+                System.out.println("Unknown benchmark: " + name);
+        }
+    }
+
+    /** Reads the element count argument, or uses a default. */
+    private static int count(String[] args, int defaultCount) {
+        return args.length > 1 ? Integer.parseInt(args[1].replace("_", "")) : defaultCount;
+    }
+
+    /** Returns the heap currently in use, in megabytes. */
+    private static long usedHeapMb() {
+        Runtime rt = Runtime.getRuntime();
+        return (rt.totalMemory() - rt.freeMemory()) >> 20;
+    }
+
+    /**
+     * Fills an off-heap MappedCoinList and scans it, reporting heap use
+     * before and after to show it stays flat as the list grows.
+     */
+    private static void mappedScan(int n) throws IOException {
+        Path file = Files.createTempFile("coins", ".list");
+        Files.delete(file);
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            System.gc();
+            System.out.println("heap before fill: " + usedHeapMb() + " MB");
+            long start = System.nanoTime();
+            Denomination[] denominations = Denomination.values();
+            for (int i = 0; i < n; i++) {
+                list.addLast(denominations[i % denominations.length].newCoin());
+            }
+            System.out.printf("filled %,d coins in %d ms%n", n, (System.nanoTime() - start) / 1_000_000);
+            System.gc();
+            System.out.println("heap after fill: " + usedHeapMb() + " MB");
+
+            long[] cents = new long[1];
+            start = System.nanoTime();
+            list.forEachPacked(code -> cents[0] += Denomination.fromCode(code).getCents());
+            System.out.printf("scanned %,d coins (%,d cents) in %d ms%n",
+                    list.size(), cents[0], (System.nanoTime() - start) / 1_000_000);
+            System.gc();
+            System.out.println("heap after scan: " + usedHeapMb() + " MB");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Times a plain get(i) index loop at doubling sizes. With the finger
+     * cache each loop is linear, so the time roughly doubles with the size
+     * instead of quadrupling.
+     */
+    private static void fingerIndexLoop(int n) {
+        for (int size = n; size <= 8 * n; size *= 2) {
+            SingleLinkedList<Integer> list = new SingleLinkedList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            long sum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.get(i);
+            }
+            System.out.printf("get loop over %,d elements: %d ms (hits %,d, misses %,d, sum %d)%n",
+                    size, (System.nanoTime() - start) / 1_000_000,
+                    list.getFingerHits(), list.getFingerMisses(), sum);
+        }
+    }
+
+    /**
+     * Measures what the probe hooks cost. The same mix of get and contains
+     * calls is timed three ways: through uninstrumented copies of get and
+     * contains as they were before probes (the baseline), through the list
+     * with no probe installed, and through the list reporting to
+     * ListMetrics. The disabled-vs-baseline difference is the cost of the
+     * hooks when nobody is listening. Baseline and disabled rounds are
+     * interleaved, the enabled rounds run after them, and the fastest round
+     * of each mode is reported.
+     */
+    private static void probeOverhead(int n) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        ListMetrics metrics = new ListMetrics();
+        int calls = 2_000_000;
+        long baseline = Long.MAX_VALUE;
+        long disabled = Long.MAX_VALUE;
+        long enabled = Long.MAX_VALUE;
+        for (int round = 0; round < 7; round++) {
+            baseline = Math.min(baseline, timeBaselineCalls(list, calls));
+            disabled = Math.min(disabled, timeProbedCalls(list, calls));
+        }
+        // enabled last: once get and contains have run with a probe, the JIT
+        // keeps the probe branch in them and the disabled timing would suffer
+        list.setProbe(metrics);
+        for (int round = 0; round < 7; round++) {
+            enabled = Math.min(enabled, timeProbedCalls(list, calls));
+        }
+        list.setProbe(null);
+        System.out.printf("uninstrumented: %.1f ns/call%n", (double) baseline / calls);
+        System.out.printf("probe disabled: %.1f ns/call (%+.1f%% vs uninstrumented)%n",
+                (double) disabled / calls, 100.0 * (disabled - baseline) / baseline);
+        System.out.printf("probe enabled:  %.1f ns/call%n", (double) enabled / calls);
+        System.out.println("GET p99 ns: " + metrics.getLatency(ListOperation.GET).getValueAtPercentile(99));
+        System.out.println("mean nodes traversed: " + metrics.getMeanNodesTraversed());
+    }
+
+    /** Runs a mix of short get and contains calls, returning the elapsed nanoseconds. */
+    private static long timeProbedCalls(SingleLinkedList<Integer> list, int calls) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < calls; i++) {
+            int position = i % 16;
+            if (list.get(position) == list.size() - 1 - position && list.contains(list.size() - 1 - position)) {
+                hits++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (hits != calls) {
+            throw new IllegalStateException("unexpected list contents");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Runs the same calls as timeProbedCalls through copies of get and
+     * contains without any probe code, returning the elapsed nanoseconds.
+     */
+    private static long timeBaselineCalls(SingleLinkedList<Integer> list, int calls) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < calls; i++) {
+            int position = i % 16;
+            if (plainGet(list, position) == list.size() - 1 - position
+                    && plainContains(list, list.size() - 1 - position)) {
+                hits++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (hits != calls) {
+            throw new IllegalStateException("unexpected list contents");
+        }
+        return elapsed;
+    }
+
+    /** SingleLinkedList.get without the probe hooks. */
+    private static <T> T plainGet(SingleLinkedList<T> list, int position) {
+        if (position < 0 || position >= list.size()) {
+            throw new ListException("Invalid position");
+        }
+        return list.nodeAt(position).data;
+    }
+
+    /** SingleLinkedList.contains without the probe hooks. */
+    private static <T> boolean plainContains(SingleLinkedList<T> list, T element) {
+        SLLNode<T> current = list.firstNode();
+        while (current != null) {
+            if (current.data.equals(element)) {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Compares three ways of polling a list that is usually empty: catching
+     * the ListException from removeFirst, catching the shared exception
+     * without a stack trace from removeFirstNoTrace, and calling pollFirst.
+     * Every eighth iteration adds an element, so the empty check cannot be
+     * hoisted out of the loop, and the polled elements are summed so the
+     * calls cannot be dropped. Once the JIT inlines removeFirstNoTrace, a
+     * throw caught in the same compiled method can become a plain branch;
+     * add {@code -XX:CompileCommand=dontinline,linkedlists.SingleLinkedList::*First*}
+     * to time each exception crossing a real call.
+     */
+    private static void emptyPoll(int n) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        long sum = 0;
+        int misses = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                if ((i & 7) == 0) {
+                    list.add(i);
+                }
+                try {
+                    sum += list.removeFirst();
+                } catch (ListException e) {
+                    misses++;
+                }
+            }
+            long throwing = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                if ((i & 7) == 0) {
+                    list.add(i);
+                }
+                try {
+                    sum += list.removeFirstNoTrace();
+                } catch (ListException e) {
+                    misses++;
+                }
+            }
+            long preallocated = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                if ((i & 7) == 0) {
+                    list.add(i);
+                }
+                Integer element = list.pollFirst();
+                if (element == null) {
+                    misses++;
+                } else {
+                    sum += element;
+                }
+            }
+            long polling = System.nanoTime() - start;
+            if (round == 2) {
+                System.out.printf("removeFirst + catch:        %.1f ns/poll%n", (double) throwing / n);
+                System.out.printf("removeFirstNoTrace + catch: %.1f ns/poll%n", (double) preallocated / n);
+                System.out.printf("pollFirst:                  %.1f ns/poll%n", (double) polling / n);
+                System.out.printf("(%,d misses, sum %,d)%n", misses, sum);
+            }
+        }
+    }
+
+    /**
+     * Applies the same random inserts and removes to an n element list in
+     * three ways, and checks that all three give the same list:
+     * <ul>
+     * <li>single insert and remove calls in the order the mutations were
+     * submitted, each walking to a random position</li>
+     * <li>single calls made in position order, so the finger keeps each
+     * walk short; sorting the mutations is part of the time</li>
+     * <li>one MutationBatch, whose time also includes its sort</li>
+     * </ul>
+     * Translating the positions for the single calls, which a real caller
+     * would already have, is done before timing.
+     */
+    private static void batchMutations(int n) {
+        // one set of mutations, with positions in the original list and each
+        // original element removed at most once, as a batch requires
+        Random random = new Random(42);
+        MutationBatch<Integer> batch = new MutationBatch<>();
+        boolean[] removed = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int position = random.nextInt(n);
+            if (random.nextBoolean()) {
+                batch.insert(position, i);
+            } else if (!removed[position]) {
+                removed[position] = true;
+                batch.remove(position);
+            }
+        }
+        int[] submitted = submissionPositions(batch, n);
+
+        long sorted = 0;
+        long applied = 0;
+        SingleLinkedList<Integer> result = null;
+        int rounds = 20; // report the last round, once the JIT has settled
+        for (int round = 0; round < rounds; round++) {
+            SingleLinkedList<Integer> bySorted = filledList(n);
+            SingleLinkedList<Integer> batched = filledList(n);
+
+            // in the order apply uses, each position shifted by the inserts
+            // and removes already made before it
+            long start = System.nanoTime();
+            long[] keys = batch.sortedKeys(n);
+            int shift = 0;
+            for (long key : keys) {
+                int m = MutationBatch.indexOf(key);
+                int position = batch.position(m) + shift;
+                if (batch.kind(m) == MutationBatch.INSERT) {
+                    bySorted.insert(position, batch.element(m));
+                    shift++;
+                } else {
+                    bySorted.remove(position);
+                    shift--;
+                }
+            }
+            sorted = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            batched.apply(batch);
+            applied = System.nanoTime() - start;
+
+            if (!sameElements(bySorted, batched)) {
+                throw new IllegalStateException("single and batched results differ");
+            }
+            result = batched;
+        }
+        // the walks dominate this one and it is slow, so time it once, last
+        SingleLinkedList<Integer> one = filledList(n);
+        long start = System.nanoTime();
+        for (int m = 0; m < batch.size(); m++) {
+            if (batch.kind(m) == MutationBatch.INSERT) {
+                one.insert(submitted[m], batch.element(m));
+            } else {
+                one.remove(submitted[m]);
+            }
+        }
+        long inOrder = System.nanoTime() - start;
+        if (!sameElements(one, result)) {
+            throw new IllegalStateException("single and batched results differ");
+        }
+        System.out.printf("%,d mutations, list of %,d:%n", batch.size(), n);
+        System.out.printf("  single calls, submission order: %.2f ms%n", inOrder / 1e6);
+        System.out.printf("  single calls, sorted first:     %.2f ms%n", sorted / 1e6);
+        System.out.printf("  one batch:                      %.2f ms%n", applied / 1e6);
+    }
+
+    /** Returns a list holding 0 to n - 1. */
+    private static SingleLinkedList<Integer> filledList(int n) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int i = n - 1; i >= 0; i--) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /** Checks whether two lists hold equal elements in the same order. */
+    private static boolean sameElements(SingleLinkedList<Integer> x, SingleLinkedList<Integer> y) {
+        SLLNode<Integer> a = x.firstNode();
+        SLLNode<Integer> b = y.firstNode();
+        for (; a != null && b != null; a = a.next, b = b.next) {
+            if (!a.data.equals(b.data)) {
+                return false;
+            }
+        }
+        return a == null && b == null;
+    }
+
+    /**
+     * Translates the positions of a batch, which refer to the list before
+     * the batch, into the positions single calls made in submission order
+     * must use to give the same list. A mutation at original position p
+     * lands after the p - r original elements left before it, where r is
+     * the earlier removes below p, and after the earlier inserts at or
+     * below p. Fenwick trees count both in O(log n) per mutation.
+     *
+     * @param batch the mutations
+     * @param n the size of the list before the batch
+     * @return the position for each mutation, by submission index
+     */
+    private static int[] submissionPositions(MutationBatch<Integer> batch, int n) {
+        int[] inserts = new int[n + 2];
+        int[] removes = new int[n + 2];
+        int[] result = new int[batch.size()];
+        for (int m = 0; m < batch.size(); m++) {
+            int p = batch.position(m);
+            result[m] = p - countUpTo(removes, p - 1) + countUpTo(inserts, p);
+            int[] tree = batch.kind(m) == MutationBatch.INSERT ? inserts : removes;
+            for (int i = p + 1; i < tree.length; i += i & -i) {
+                tree[i]++;
+            }
+        }
+        return result;
+    }
+
+    /** Returns how many positions from 0 to p have been counted in a Fenwick tree. */
+    private static int countUpTo(int[] tree, int p) {
+        int count = 0;
+        for (int i = p + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Replays the same skewed key stream through a SingleLinkedList used as
+     * a move-to-front recency list and through an LRU LinkedCache of the
+     * same capacity.
+     */
+    private static void cacheAccess(int n) {
+        int capacity = 1_000;
+        Random random = new Random(7);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            // squaring a uniform value skews the stream toward small keys
+            double u = random.nextDouble();
+            keys[i] = (int) (u * u * 10 * capacity);
+        }
+
+        SingleLinkedList<Integer> recent = new SingleLinkedList<>();
+        int listHits = 0;
+        long start = System.nanoTime();
+        for (int key : keys) {
+            if (recent.remove((Integer) key)) {
+                listHits++;
+            } else if (recent.size() == capacity) {
+                recent.remove(capacity - 1);
+            }
+            recent.add(key);
+        }
+        long listTime = System.nanoTime() - start;
+
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(capacity, EvictionPolicy.LRU);
+        start = System.nanoTime();
+        for (int key : keys) {
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+        }
+        long cacheTime = System.nanoTime() - start;
+        System.out.printf("SingleLinkedList move-to-front: %d ms, %,d hits%n", listTime / 1_000_000, listHits);
+        System.out.printf("LinkedCache LRU:                %d ms, %,d hits, %,d evictions%n",
+                cacheTime / 1_000_000, cache.hitCount(), cache.evictionCount());
+    }
+
+    /**
+     * Starts n virtual-thread consumers blocked in take on a bounded
+     * BlockingLinkedQueue, then feeds them n elements from one producer.
+     * Heap use is reported while every consumer is parked.
+     */
+    private static void virtualConsumers(int n) throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(1_024);
+        LongAdder consumed = new LongAdder();
+        Thread[] consumers = new Thread[n];
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            consumers[i] = Thread.ofVirtual().start(() -> {
+                try {
+                    consumed.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Thread.sleep(500);  // let the consumers park
+        System.gc();
+        System.out.printf("%,d consumers parked, heap %d MB%n", n, usedHeapMb());
+        for (int i = 0; i < n; i++) {
+            queue.put(1);
+        }
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+        System.out.printf("%,d elements consumed in %d ms, queue size %d%n",
+                consumed.sum(), (System.nanoTime() - start) / 1_000_000, queue.size());
+    }
+
+    /**
+     * Tallies the same coin list with ParallelCoinAggregator on pools of
+     * 1, 2, 4, ... up to the number of available cores.
+     */
+    private static void parallelTally(int n) {
+        SingleLinkedList<Coin> list = new SingleLinkedList<>();
+        Denomination[] denominations = Denomination.values();
+        for (int i = 0; i < n; i++) {
+            list.add(denominations[i % denominations.length].newCoin());
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ParallelCoinAggregator aggregator = new ParallelCoinAggregator(pool, 4 * threads);
+            CoinTally tally = null;
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                long start = System.nanoTime();
+                tally = aggregator.aggregate(list);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            pool.shutdown();
+            System.out.printf("%2d threads: %d ms (%,d cents, %,d heads)%n",
+                    threads, best / 1_000_000, tally.getTotalCents(), tally.getHeads());
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Measures read throughput on a small catalog list while a writer
+     * replaces an element every millisecond: first a CopyOnWriteLinkedList
+     * read without locks, then a SingleLinkedList guarded by synchronized.
+     */
+    private static void copyOnWriteReads(int n) throws InterruptedException {
+        CopyOnWriteLinkedList<Integer> cow = new CopyOnWriteLinkedList<>();
+        SingleLinkedList<Integer> locked = new SingleLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            cow.add(i);
+            locked.add(i);
+        }
+        int readers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        long cowReads = runReaders(readers,
+            () -> cow.contains(n / 2),
+            () -> {
+                cow.insert(n / 2, -1);
+                cow.remove(n / 2);
+            });
+        long lockedReads = runReaders(readers,
+            () -> {
+                synchronized (locked) {
+                    return locked.contains(n / 2);
+                }
+            },
+            () -> {
+                synchronized (locked) {
+                    locked.insert(n / 2, -1);
+                    locked.remove(n / 2);
+                }
+            });
+        System.out.printf("%d readers, copy-on-write: %,d reads/s%n", readers, cowReads);
+        System.out.printf("%d readers, synchronized:  %,d reads/s%n", readers, lockedReads);
+    }
+
+    /** Runs reader threads and one writer for a second, returning reads per second. */
+    private static long runReaders(int readers, BooleanSupplier read, Runnable write)
+            throws InterruptedException {
+        LongAdder reads = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread[] threads = new Thread[readers + 1];
+        for (int i = 0; i < readers; i++) {
+            threads[i] = new Thread(() -> {
+                long local = 0;
+                while (running.get()) {
+                    if (read.getAsBoolean()) {
+                        local++;
+                    }
+                }
+                reads.add(local);
+            });
+        }
+        threads[readers] = new Thread(() -> {
+            while (running.get()) {
+                write.run();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        for (Thread t : threads) {
+            t.start();
+        }
+        Thread.sleep(1_000);
+        running.set(false);
+        for (Thread t : threads) {
+            t.join();
+        }
+        return reads.sum();
+    }
+
+    /**
+     * Appends n coins and bills to a MoneyLedger, then times random range
+     * sums and running-total searches.
+     */
+    private static void ledgerQueries(int n) {
+        MoneyLedger ledger = new MoneyLedger();
+        Denomination[] denominations = Denomination.values();
+        Money one = new One();
+        Money five = new Five();
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            int pick = i % (denominations.length + 2);
+            ledger.append(pick < denominations.length ? denominations[pick].newCoin()
+                    : pick == denominations.length ? one : five);
+        }
+        System.out.printf("appended %,d entries in %d ms%n", n, (System.nanoTime() - start) / 1_000_000);
+
+        Random random = new Random(3);
+        int queries = 1_000_000;
+        long total = ledger.totalCents();
+        long check = 0;
+        start = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            check += ledger.rangeCents(Math.min(a, b), Math.max(a, b));
+            check += ledger.firstIndexExceeding((long) (random.nextDouble() * total));
+        }
+        System.out.printf("%,d range sums + searches in %d ms (check %d)%n",
+                queries, (System.nanoTime() - start) / 1_000_000, check);
+    }
+
+    /**
+     * Compares the heap retained by n coins in a SingleLinkedList<Coin>
+     * with the same coins in a CoinList, measured as the change in used
+     * heap after a full collection.
+     */
+    private static void coinFootprint(int n) {
+        Denomination[] denominations = Denomination.values();
+        System.gc();
+        long before = usedHeapBytes();
+        SingleLinkedList<Coin> nodes = new SingleLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add(denominations[i % denominations.length].newCoin());
+        }
+        System.gc();
+        long nodeBytes = usedHeapBytes() - before;
+
+        System.gc();
+        before = usedHeapBytes();
+        CoinList packed = new CoinList();
+        for (int i = 0; i < n; i++) {
+            packed.add(denominations[i % denominations.length].newCoin());
+        }
+        System.gc();
+        long packedBytes = usedHeapBytes() - before;
+        System.out.printf("SingleLinkedList<Coin>: %,d bytes (%.1f per coin, %d coins)%n",
+                nodeBytes, (double) nodeBytes / n, nodes.size());
+        System.out.printf("CoinList:               %,d bytes (%.1f per coin, %d coins)%n",
+                packedBytes, (double) packedBytes / n, packed.size());
+    }
+
+    /** Returns the heap currently in use, in bytes. */
+    private static long usedHeapBytes() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -7,4 +7,16 @@ public class ListException extends RuntimeException {
     public ListException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs an exception that can skip capturing its stack trace.
+     * An exception without a stack trace is cheap to create and can be
+     * preallocated and thrown repeatedly.
+     *
+     * @param message the detail message
+     * @param writableStackTrace false to skip filling in the stack trace
+     */
+    public ListException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,161 @@
+package linkedlists;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * A {@link ListProbe} that keeps per-operation counts, failures, nodes
+ * traversed and latency histograms. One instance may be shared by many
+ * lists and threads. Install it with SingleLinkedList.setProbe and
+ * publish it over JMX with {@link #register(String)}.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class ListMetrics implements ListProbe, ListMetricsMXBean {
+    private static final ListOperation[] OPERATIONS = ListOperation.values();
+
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] failures = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] nodes = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+
+    /**
+     * Constructs an empty set of metrics.
+     */
+    public ListMetrics() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            counts[i] = new LongAdder();
+            failures[i] = new LongAdder();
+            nodes[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void completed(ListOperation operation, int nodesTraversed, long nanos) {
+        int i = operation.ordinal();
+        counts[i].increment();
+        nodes[i].add(nodesTraversed);
+        latencies[i].record(nanos);
+    }
+
+    @Override
+    public void failed(ListOperation operation) {
+        failures[operation.ordinal()].increment();
+    }
+
+    /**
+     * Returns the number of completed calls of an operation.
+     *
+     * @param operation the operation
+     * @return the call count
+     */
+    public long getCount(ListOperation operation) {
+        return counts[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of ListExceptions thrown by an operation.
+     *
+     * @param operation the operation
+     * @return the failure count
+     */
+    public long getFailureCount(ListOperation operation) {
+        return failures[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the total links followed by an operation.
+     *
+     * @param operation the operation
+     * @return the number of nodes traversed over all calls
+     */
+    public long getNodesTraversed(ListOperation operation) {
+        return nodes[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the latency histogram of an operation.
+     *
+     * @param operation the operation
+     * @return the histogram of call times in nanoseconds
+     */
+    public LatencyHistogram getLatency(ListOperation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return byOperation(op -> getCount(op));
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        return byOperation(op -> getFailureCount(op));
+    }
+
+    @Override
+    public Map<String, Double> getMeanNodesTraversed() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (ListOperation op : OPERATIONS) {
+            long calls = getCount(op);
+            result.put(op.name(), calls == 0 ? 0.0 : (double) getNodesTraversed(op) / calls);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getMedianNanos() {
+        return byOperation(op -> getLatency(op).getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99Nanos() {
+        return byOperation(op -> getLatency(op).getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxNanos() {
+        return byOperation(op -> getLatency(op).getMax());
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            counts[i].reset();
+            failures[i].reset();
+            nodes[i].reset();
+            latencies[i].reset();
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * {@code linkedlists:type=ListMetrics,name=<name>}.
+     *
+     * @param name the name that identifies these metrics
+     * @return the name the MBean was registered under
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("linkedlists:type=ListMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /** Builds a map from operation name to a value, in declaration order. */
+    private static Map<String, Long> byOperation(ToLongFunction<ListOperation> value) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (ListOperation op : OPERATIONS) {
+            result.put(op.name(), value.applyAsLong(op));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package linkedlists;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link ListMetrics}. Maps are keyed by operation name.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public interface ListMetricsMXBean {
+    /**
+     * @return completed calls per operation
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * @return ListExceptions thrown per operation
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * @return average links followed per call, per operation
+     */
+    Map<String, Double> getMeanNodesTraversed();
+
+    /**
+     * @return median latency in nanoseconds, per operation
+     */
+    Map<String, Long> getMedianNanos();
+
+    /**
+     * @return 99th percentile latency in nanoseconds, per operation
+     */
+    Map<String, Long> getP99Nanos();
+
+    /**
+     * @return maximum latency in nanoseconds, per operation
+     */
+    Map<String, Long> getMaxNanos();
+
+    /**
+     * Clears all recorded metrics.
+     */
+    void reset();
+}
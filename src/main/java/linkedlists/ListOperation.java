@@ -0,0 +1,20 @@
+package linkedlists;
+
+/**
+ * The list operations reported to a {@link ListProbe}.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public enum ListOperation {
+    /** get(int) */
+    GET,
+    /** insert(int, T) */
+    INSERT,
+    /** remove(T), remove(int) and removeFirst() */
+    REMOVE,
+    /** contains(T) */
+    CONTAINS,
+    /** countUniques() */
+    COUNT_UNIQUES
+}
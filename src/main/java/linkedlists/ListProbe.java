@@ -0,0 +1,26 @@
+package linkedlists;
+
+/**
+ * Receives a report for each instrumented list operation.
+ * A list with no probe installed skips all timing and reporting.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public interface ListProbe {
+    /**
+     * Called after an operation completes.
+     *
+     * @param operation the operation that ran
+     * @param nodesTraversed the number of links followed
+     * @param nanos the time the operation took, in nanoseconds
+     */
+    void completed(ListOperation operation, int nodesTraversed, long nanos);
+
+    /**
+     * Called when an operation is about to throw a ListException.
+     *
+     * @param operation the operation that failed
+     */
+    void failed(ListOperation operation);
+}
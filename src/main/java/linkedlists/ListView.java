@@ -0,0 +1,423 @@
+package linkedlists;
+
+import coins.Money;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A lazy, read-only view of a sequence of elements, such as the nodes of a
+ * linked list. filter, map, limit and concat build new views without copying
+ * or touching any element; the work happens only when a terminal operation
+ * such as count or sum runs, or the view is iterated.
+ *
+ * Terminal operations push each element from the source through the whole
+ * chain of views in a single traversal, so a chain of views costs one walk
+ * of the underlying SLLNode chain and allocates nothing per element. A view
+ * over a list sees the list as it is when the terminal operation runs.
+ *
+ * @param <T> the type of elements in the view
+ * @author ICS211
+ * @version 1.0
+ */
+public abstract class ListView<T> implements Iterable<T> {
+
+    /**
+     * Receives the elements pushed through a chain of views.
+     *
+     * @param <T> the type of elements received
+     */
+    interface Sink<T> {
+        /**
+         * Receives one element.
+         *
+         * @param element the element
+         * @return true to keep going, false to stop the traversal
+         */
+        boolean accept(T element);
+    }
+
+    /**
+     * Pushes every element of the view, in order, into a sink.
+     *
+     * @param sink receives the elements
+     * @return false if the sink stopped the traversal early
+     */
+    abstract boolean push(Sink<? super T> sink);
+
+    /**
+     * Returns a view of a node chain. The supplier is asked for the first
+     * node each time the view is traversed.
+     *
+     * @param <T> the type of elements
+     * @param first supplies the first node of the chain
+     * @return a view of the chain
+     */
+    static <T> ListView<T> ofNodes(Supplier<SLLNode<T>> first) {
+        return new NodeView<>(first);
+    }
+
+    /**
+     * Returns a view of any Iterable, such as a MappedCoinList.
+     *
+     * @param <T> the type of elements
+     * @param source the elements to view
+     * @return a view of the source
+     */
+    public static <T> ListView<T> of(Iterable<T> source) {
+        return new IterableView<>(source);
+    }
+
+    /**
+     * Returns a view of the elements that match a condition.
+     *
+     * @param condition the condition elements must meet
+     * @return the filtered view
+     */
+    public ListView<T> filter(Predicate<? super T> condition) {
+        return new FilterView<>(this, condition);
+    }
+
+    /**
+     * Returns a view of the results of applying a function to each element.
+     *
+     * @param <R> the type of the results
+     * @param function the function to apply
+     * @return the mapped view
+     */
+    public <R> ListView<R> map(Function<? super T, ? extends R> function) {
+        return new MapView<>(this, function);
+    }
+
+    /**
+     * Returns a view of at most the first maxElements elements. Traversal
+     * stops once they have been seen.
+     *
+     * @param maxElements the most elements to keep
+     * @return the truncated view
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public ListView<T> limit(long maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Negative limit");
+        }
+        return new LimitView<>(this, maxElements);
+    }
+
+    /**
+     * Returns a view of the elements of this view followed by those of another.
+     *
+     * @param other the view whose elements come second
+     * @return the combined view
+     */
+    public ListView<T> concat(ListView<? extends T> other) {
+        return new ConcatView<>(this, other);
+    }
+
+    /**
+     * Counts the elements of the view.
+     * Time complexity: O(n) where n is the number of source elements reached
+     *
+     * @return the number of elements
+     */
+    public long count() {
+        long[] count = new long[1];
+        push(element -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Adds up a number taken from each element.
+     * Time complexity: O(n) where n is the number of source elements reached
+     *
+     * @param value gives the number for an element
+     * @return the total
+     */
+    public long sum(ToLongFunction<? super T> value) {
+        long[] total = new long[1];
+        push(element -> {
+            total[0] += value.applyAsLong(element);
+            return true;
+        });
+        return total[0];
+    }
+
+    /**
+     * Adds up the value in cents of a view of money.
+     * Time complexity: O(n) where n is the number of source elements reached
+     *
+     * @param view the coins or bills to add up
+     * @return the total in cents
+     */
+    public static long sumCents(ListView<? extends Money> view) {
+        return view.sum(Money::getCents);
+    }
+
+    /**
+     * Counts the distinct elements of the view, using equals and hashCode.
+     * This keeps a set of the distinct elements seen, so unlike the other
+     * terminal operations it allocates for each new distinct element.
+     * Time complexity: O(n) expected
+     *
+     * @return the number of distinct elements
+     */
+    public long countDistinct() {
+        HashSet<T> seen = new HashSet<>();
+        push(element -> {
+            seen.add(element);
+            return true;
+        });
+        return seen.size();
+    }
+
+    /**
+     * Passes each element of the view to an action in a single traversal.
+     *
+     * @param action the action to run for each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        push(element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    /** A view of an SLLNode chain. */
+    private static final class NodeView<T> extends ListView<T> {
+        private final Supplier<SLLNode<T>> first;
+
+        NodeView(Supplier<SLLNode<T>> first) {
+            this.first = first;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            for (SLLNode<T> node = first.get(); node != null; node = node.next) {
+                if (!sink.accept(node.data)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private SLLNode<T> node = first.get();
+
+                @Override
+                public boolean hasNext() {
+                    return node != null;
+                }
+
+                @Override
+                public T next() {
+                    if (node == null) {
+                        throw new NoSuchElementException();
+                    }
+                    T data = node.data;
+                    node = node.next;
+                    return data;
+                }
+            };
+        }
+    }
+
+    /** A view of an Iterable. */
+    private static final class IterableView<T> extends ListView<T> {
+        private final Iterable<T> source;
+
+        IterableView(Iterable<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            for (T element : source) {
+                if (!sink.accept(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return source.iterator();
+        }
+    }
+
+    /** The elements of a view that match a condition. */
+    private static final class FilterView<T> extends ListView<T> {
+        private final ListView<T> source;
+        private final Predicate<? super T> condition;
+
+        FilterView(ListView<T> source, Predicate<? super T> condition) {
+            this.source = source;
+            this.condition = condition;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            return source.push(element -> !condition.test(element) || sink.accept(element));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> it = source.iterator();
+            return new Iterator<T>() {
+                private T pending;
+                private boolean ready;
+
+                @Override
+                public boolean hasNext() {
+                    while (!ready && it.hasNext()) {
+                        T element = it.next();
+                        if (condition.test(element)) {
+                            pending = element;
+                            ready = true;
+                        }
+                    }
+                    return ready;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    ready = false;
+                    T element = pending;
+                    pending = null;
+                    return element;
+                }
+            };
+        }
+    }
+
+    /** The results of applying a function to the elements of a view. */
+    private static final class MapView<S, T> extends ListView<T> {
+        private final ListView<S> source;
+        private final Function<? super S, ? extends T> function;
+
+        MapView(ListView<S> source, Function<? super S, ? extends T> function) {
+            this.source = source;
+            this.function = function;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            return source.push(element -> sink.accept(function.apply(element)));
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<S> it = source.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return function.apply(it.next());
+                }
+            };
+        }
+    }
+
+    /** The first few elements of a view. */
+    private static final class LimitView<T> extends ListView<T> {
+        private final ListView<T> source;
+        private final long maxElements;
+
+        LimitView(ListView<T> source, long maxElements) {
+            this.source = source;
+            this.maxElements = maxElements;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            if (maxElements == 0) {
+                return true;
+            }
+            // reaching the limit ends this view only; a stop from the sink ends everything
+            long[] taken = new long[1];
+            boolean[] stopped = new boolean[1];
+            source.push(element -> {
+                if (!sink.accept(element)) {
+                    stopped[0] = true;
+                    return false;
+                }
+                return ++taken[0] < maxElements;
+            });
+            return !stopped[0];
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> it = source.iterator();
+            return new Iterator<T>() {
+                private long taken;
+
+                @Override
+                public boolean hasNext() {
+                    return taken < maxElements && it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    taken++;
+                    return it.next();
+                }
+            };
+        }
+    }
+
+    /** The elements of one view followed by those of another. */
+    private static final class ConcatView<T> extends ListView<T> {
+        private final ListView<T> first;
+        private final ListView<? extends T> second;
+
+        ConcatView(ListView<T> first, ListView<? extends T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        boolean push(Sink<? super T> sink) {
+            return first.push(sink) && second.push(sink);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> a = first.iterator();
+            Iterator<? extends T> b = second.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return a.hasNext() || b.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return a.hasNext() ? a.next() : b.next();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package linkedlists;
+
+import coins.Coin;
+import coins.Denomination;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * A singly linked list of coins stored off-heap in a memory-mapped file.
+ * Each node is a fixed-width 16 byte slot holding the offset of the next
+ * slot and the coin packed by {@link Denomination#pack(Coin)}, so the list
+ * can grow far beyond the heap. Offset 0 is the file header and doubles
+ * as the null link.
+ *
+ * Every mutation marks the header dirty before it writes anything else,
+ * and writes the new node completely before linking it in, so a list
+ * reopened after the process dies, with the operating system still
+ * running, always sees a well-formed chain. The header records whether the
+ * file was closed cleanly; if not, size and tail are recovered by walking
+ * the chain on open.
+ *
+ * That guarantee does not cover an operating system crash or power loss:
+ * the system writes changed pages of the mapping back to disk in any
+ * order, so the page holding a link can reach the disk before the page
+ * holding the node it points to. Only the state at the last {@link #sync}
+ * or {@link #close} is safe against those, and only if the list was not
+ * changed after it.
+ *
+ * Coins are compared by denomination and up side, since decoded coins
+ * are new objects every time.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class MappedCoinList implements List<Coin>, Iterable<Coin>, Closeable {
+    /** Identifies a coin list file ("COINLST1") */
+    private static final long MAGIC = 0x434F494E4C535431L;
+    /** Bytes reserved for the header at the start of the file */
+    private static final int HEADER_BYTES = 64;
+    /** Bytes per node: 8 byte next offset, 4 byte packed coin, 4 spare */
+    private static final int SLOT_BYTES = 16;
+    /** Files are mapped in 64 MB regions */
+    private static final int CHUNK_SHIFT = 26;
+    private static final long CHUNK_BYTES = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_BYTES - 1;
+
+    // header field offsets
+    private static final int H_MAGIC = 0;
+    private static final int H_HEAD = 8;
+    private static final int H_TAIL = 16;
+    private static final int H_SIZE = 24;
+    private static final int H_END = 32;
+    private static final int H_FREE = 40;
+    private static final int H_CLEAN = 48;
+
+    private final FileChannel channel;
+    private MappedByteBuffer[] chunks;
+    private MappedByteBuffer header;
+
+    private long head;  // offset of first slot, 0 if empty
+    private long tail;  // offset of last slot, 0 if empty
+    private long end;   // offset of the first never-used slot
+    private long free;  // offset of the first slot on the free list
+    private int size;
+    private boolean dirty;
+
+    /** Run at each link commit point, before the header is updated; lets tests stop a mutation there */
+    Runnable commitHook;
+
+    /**
+     * Opens the list stored in a file, creating an empty list if the
+     * file does not exist or is empty.
+     *
+     * @param file the backing file
+     * @throws IOException if the file cannot be mapped or is not a coin list
+     */
+    public MappedCoinList(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        chunks = new MappedByteBuffer[4];
+        boolean fresh = channel.size() == 0;
+        header = chunk(0);
+        if (fresh) {
+            header.putLong(H_MAGIC, MAGIC);
+            head = 0;
+            tail = 0;
+            size = 0;
+            end = HEADER_BYTES;
+            free = 0;
+            putFields();
+            header.putLong(H_CLEAN, 1);
+        } else {
+            if (header.getLong(H_MAGIC) != MAGIC) {
+                channel.close();
+                throw new IOException("Not a coin list file: " + file);
+            }
+            head = header.getLong(H_HEAD);
+            end = header.getLong(H_END);
+            free = header.getLong(H_FREE);
+            if (header.getLong(H_CLEAN) == 1) {
+                tail = header.getLong(H_TAIL);
+                size = (int) header.getLong(H_SIZE);
+            } else {
+                recover();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds size and tail by walking the chain from head.
+     * Used when the file was not closed cleanly.
+     */
+    private void recover() {
+        size = 0;
+        tail = 0;
+        for (long slot = head; slot != 0; slot = next(slot)) {
+            tail = slot;
+            size++;
+        }
+        dirty = true; // the file is already marked dirty
+        putFields();
+    }
+
+    /**
+     * Adds a coin to the front of the list.
+     * Time complexity: O(1)
+     *
+     * @param element the coin to add
+     */
+    @Override
+    public void add(Coin element) {
+        int code = Denomination.pack(element);
+        markDirty();
+        long slot = allocate();
+        writeSlot(slot, code, head);
+        head = slot;
+        if (tail == 0) {
+            tail = slot;
+        }
+        size++;
+        putFields();
+    }
+
+    /**
+     * Adds a coin to the end of the list.
+     * Time complexity: O(1)
+     *
+     * @param element the coin to add
+     */
+    @Override
+    public void addLast(Coin element) {
+        int code = Denomination.pack(element);
+        markDirty();
+        long slot = allocate();
+        writeSlot(slot, code, 0);
+        if (tail == 0) {
+            head = slot;
+        } else {
+            setNext(tail, slot);  // commit point
+            committed();
+        }
+        tail = slot;
+        size++;
+        putFields();
+    }
+
+    /**
+     * Inserts a coin at a specific position in the list.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position to insert the coin at
+     * @param element the coin to insert
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public void insert(int position, Coin element) throws ListException {
+        if (position < 0 || position > size) {
+            throw new ListException("Invalid position");
+        }
+        if (position == 0) {
+            add(element);
+        } else if (position == size) {
+            addLast(element);
+        } else {
+            int code = Denomination.pack(element);
+            long prev = slotAt(position - 1);
+            markDirty();
+            long slot = allocate();
+            writeSlot(slot, code, next(prev));
+            setNext(prev, slot);  // commit point
+            committed();
+            size++;
+            putFields();
+        }
+    }
+
+    /**
+     * Retrieves the coin at a specific position in the list.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position of the coin
+     * @return a new coin with the stored denomination and up side
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public Coin get(int position) throws ListException {
+        if (position < 0 || position >= size) {
+            throw new ListException("Invalid position");
+        }
+        return Denomination.unpack(code(slotAt(position)));
+    }
+
+    /**
+     * Removes the first coin with the same denomination and up side.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the coin to remove
+     * @return true if a matching coin was removed, false otherwise
+     */
+    @Override
+    public boolean remove(Coin element) {
+        int code = Denomination.pack(element);
+        long prev = 0;
+        for (long slot = head; slot != 0; slot = next(slot)) {
+            if (code(slot) == code) {
+                unlink(prev, slot);
+                return true;
+            }
+            prev = slot;
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the first coin in the list.
+     * Time complexity: O(1)
+     *
+     * @return the removed coin
+     * @throws ListException if the list is empty
+     */
+    @Override
+    public Coin removeFirst() throws ListException {
+        if (head == 0) {
+            throw new ListException("List is empty");
+        }
+        long slot = head;
+        int code = code(slot);
+        unlink(0, slot);
+        return Denomination.unpack(code);
+    }
+
+    /**
+     * Removes and returns the coin at a specific position in the list.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position of the coin to remove
+     * @return the removed coin
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public Coin remove(int position) throws ListException {
+        if (position < 0 || position >= size) {
+            throw new ListException("Invalid position");
+        }
+        long prev = position == 0 ? 0 : slotAt(position - 1);
+        long slot = prev == 0 ? head : next(prev);
+        int code = code(slot);
+        unlink(prev, slot);
+        return Denomination.unpack(code);
+    }
+
+    /**
+     * Checks if the list contains a coin with the same denomination and up side.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the coin to search for
+     * @return true if a matching coin is found, false otherwise
+     */
+    @Override
+    public boolean contains(Coin element) {
+        int code = Denomination.pack(element);
+        for (long slot = head; slot != 0; slot = next(slot)) {
+            if (code(slot) == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * Time complexity: O(1)
+     *
+     * @return the number of coins in the list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     * Time complexity: O(1)
+     *
+     * @return true if the list contains no coins, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of distinct denomination and up side pairs.
+     * There are only a handful of packed codes, so one pass with a
+     * table of seen codes is enough.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @return the count of unique coins in the list
+     */
+    @Override
+    public int countUniques() {
+        boolean[] seen = new boolean[Denomination.CODE_COUNT];
+        int uniqueCount = 0;
+        for (long slot = head; slot != 0 && uniqueCount < seen.length; slot = next(slot)) {
+            int code = code(slot);
+            if (!seen[code]) {
+                seen[code] = true;
+                uniqueCount++;
+            }
+        }
+        return uniqueCount;
+    }
+
+    /**
+     * Passes the packed code of every coin, in order, to an action.
+     * Nothing is allocated per element, so this is the way to scan
+     * lists much larger than the heap.
+     *
+     * @param action receives each packed code
+     */
+    public void forEachPacked(IntConsumer action) {
+        for (long slot = head; slot != 0; slot = next(slot)) {
+            action.accept(code(slot));
+        }
+    }
+
+    /**
+     * Returns an iterator that decodes each coin as it is reached.
+     *
+     * @return an iterator over the coins in list order
+     */
+    @Override
+    public Iterator<Coin> iterator() {
+        return new Iterator<Coin>() {
+            private long slot = head;
+
+            @Override
+            public boolean hasNext() {
+                return slot != 0;
+            }
+
+            @Override
+            public Coin next() {
+                if (slot == 0) {
+                    throw new NoSuchElementException();
+                }
+                int code = code(slot);
+                slot = MappedCoinList.this.next(slot);
+                return Denomination.unpack(code);
+            }
+        };
+    }
+
+    /**
+     * Forces all changes out to the backing file, the slots first and the
+     * header last. Once this returns, the file on disk holds the list as it
+     * is now.
+     */
+    public void sync() {
+        for (int i = 1; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].force();
+            }
+        }
+        header.force(HEADER_BYTES, header.capacity() - HEADER_BYTES);
+        header.force(0, HEADER_BYTES);
+    }
+
+    /**
+     * Flushes the file, then marks it as cleanly closed and releases the
+     * channel. The clean mark is written only once everything else is on
+     * disk, so a crash during close leaves the file to be recovered on open.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        sync();
+        header.putLong(H_CLEAN, 1);
+        header.force(0, HEADER_BYTES);
+        channel.close();
+    }
+
+    /**
+     * Releases the channel without syncing or marking the file clean, as if
+     * the process had died. Used by tests of recovery.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    void closeUncleanly() throws IOException {
+        channel.close();
+    }
+
+    /** toString returns a string representation of the first
+     * SingleLinkedList.DEFAULT_TO_STRING_LIMIT coins of the list */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, SingleLinkedList.DEFAULT_TO_STRING_LIMIT);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes at most maxElements coins to a destination, in the same format
+     * as SingleLinkedList.writeTo.
+     * Time complexity: O(min(n, maxElements))
+     *
+     * @param out where to write the coins, such as a Writer
+     * @param maxElements the most coins to write
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        int written = 0;
+        for (long slot = head; slot != 0 && written < maxElements; slot = next(slot)) {
+            if (written > 0) {
+                out.append(" -> ");
+            }
+            Denomination.unpack(code(slot)).appendTo(out);
+            written++;
+        }
+        SingleLinkedList.writeRemainder(out, written, size - written);
+    }
+
+    /** Unlinks a slot (prev is 0 when slot is head) and frees it. */
+    private void unlink(long prev, long slot) {
+        markDirty();
+        long after = next(slot);
+        if (prev == 0) {
+            head = after;
+        } else {
+            setNext(prev, after);  // commit point
+            committed();
+        }
+        if (tail == slot) {
+            tail = prev;
+        }
+        size--;
+        putFields();
+        // push the slot onto the free list only once it is unreachable
+        setNext(slot, free);
+        free = slot;
+        header.putLong(H_FREE, free);
+    }
+
+    /** Returns the offset of the slot at a position, walking from head. */
+    private long slotAt(int position) {
+        long slot = head;
+        for (int i = 0; i < position; i++) {
+            slot = next(slot);
+        }
+        return slot;
+    }
+
+    /** Takes a slot from the free list, or from the end of the file. */
+    private long allocate() {
+        long slot;
+        if (free != 0) {
+            slot = free;
+            free = next(slot);
+        } else {
+            slot = end;
+            end += SLOT_BYTES;
+        }
+        header.putLong(H_END, end);
+        header.putLong(H_FREE, free);
+        return slot;
+    }
+
+    private void writeSlot(long slot, int code, long nextSlot) {
+        MappedByteBuffer buf = chunk(slot);
+        int pos = (int) (slot & CHUNK_MASK);
+        buf.putInt(pos + 8, code);
+        buf.putLong(pos, nextSlot);
+    }
+
+    private long next(long slot) {
+        return chunk(slot).getLong((int) (slot & CHUNK_MASK));
+    }
+
+    private void setNext(long slot, long nextSlot) {
+        chunk(slot).putLong((int) (slot & CHUNK_MASK), nextSlot);
+    }
+
+    private int code(long slot) {
+        return chunk(slot).getInt((int) (slot & CHUNK_MASK) + 8);
+    }
+
+    /**
+     * Marks the file as not cleanly closed. Every mutator calls this before
+     * it writes anything else, so that a process dying part way through a
+     * mutation never leaves a changed chain behind a header that says clean.
+     */
+    private void markDirty() {
+        if (!dirty) {
+            header.putLong(H_CLEAN, 0);
+            dirty = true;
+        }
+    }
+
+    /** Runs the commit hook, if a test has set one. */
+    private void committed() {
+        if (commitHook != null) {
+            commitHook.run();
+        }
+    }
+
+    /**
+     * Writes the list fields to the header.
+     * Writing the head field is the commit point for changes at the front.
+     */
+    private void putFields() {
+        header.putLong(H_HEAD, head);
+        header.putLong(H_TAIL, tail);
+        header.putLong(H_SIZE, size);
+        header.putLong(H_END, end);
+        header.putLong(H_FREE, free);
+    }
+
+    /** Returns the mapped region holding an offset, mapping it on first use. */
+    private MappedByteBuffer chunk(long offset) {
+        int index = (int) (offset >>> CHUNK_SHIFT);
+        if (index >= chunks.length) {
+            MappedByteBuffer[] bigger = new MappedByteBuffer[Math.max(index + 1, chunks.length * 2)];
+            System.arraycopy(chunks, 0, bigger, 0, chunks.length);
+            chunks = bigger;
+        }
+        MappedByteBuffer buf = chunks[index];
+        if (buf == null) {
+            try {
+                buf = channel.map(FileChannel.MapMode.READ_WRITE, index * CHUNK_BYTES, CHUNK_BYTES);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunks[index] = buf;
+        }
+        return buf;
+    }
+}
@@ -0,0 +1,134 @@
+package linkedlists;
+
+import java.util.Arrays;
+
+/**
+ * A sequence of positional inserts and removes to apply to a
+ * SingleLinkedList in one forward pass.
+ *
+ * Every position refers to the list as it was before the batch, not as it
+ * is after earlier mutations in the batch. An insert at position p goes
+ * just before the element originally at p (or at the end if p is the old
+ * size), and a remove at p removes the element originally at p. Inserts at
+ * the same position keep the order in which they were added to the batch.
+ *
+ * @param <T> the type of elements inserted by this batch
+ * @author ICS211
+ * @version 1.0
+ */
+public class MutationBatch<T> {
+    /** Mutation kind of an insert; sorts before a remove at the same position */
+    static final int INSERT = 0;
+    /** Mutation kind of a remove */
+    static final int REMOVE = 1;
+
+    private int[] kinds = new int[16];
+    private int[] positions = new int[16];
+    private Object[] elements = new Object[16];
+    private int count;
+
+    /**
+     * Adds an insert to the batch.
+     *
+     * @param position the position, before the batch, to insert at
+     * @param element the element to insert
+     * @return this batch
+     */
+    public MutationBatch<T> insert(int position, T element) {
+        return append(INSERT, position, element);
+    }
+
+    /**
+     * Adds a remove to the batch.
+     *
+     * @param position the position, before the batch, of the element to remove
+     * @return this batch
+     */
+    public MutationBatch<T> remove(int position) {
+        return append(REMOVE, position, null);
+    }
+
+    /**
+     * Returns the number of mutations in the batch.
+     *
+     * @return the number of mutations
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Removes all mutations from the batch so it can be reused.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, count, null);
+        count = 0;
+    }
+
+    private MutationBatch<T> append(int kind, int position, Object element) {
+        if (count == kinds.length) {
+            int capacity = count * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+        kinds[count] = kind;
+        positions[count] = position;
+        elements[count] = element;
+        count++;
+        return this;
+    }
+
+    int kind(int index) {
+        return kinds[index];
+    }
+
+    int position(int index) {
+        return positions[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    T element(int index) {
+        return (T) elements[index];
+    }
+
+    /**
+     * Checks every mutation against a list size and returns the mutation
+     * indices in the order they should be applied: by position, inserts
+     * before the remove at the same position, then by submission order.
+     * Each entry packs position, kind and index so a primitive sort can
+     * be used.
+     *
+     * @param listSize the size of the list before the batch
+     * @return packed sort keys; the low 31 bits of each are the mutation index
+     * @throws ListException if a position is invalid or removed twice
+     */
+    long[] sortedKeys(int listSize) throws ListException {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int position = positions[i];
+            int limit = kinds[i] == INSERT ? listSize : listSize - 1;
+            if (position < 0 || position > limit) {
+                throw new ListException("Invalid position");
+            }
+            keys[i] = ((long) position << 32) | ((long) kinds[i] << 31) | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 1; i < count; i++) {
+            if (kinds[indexOf(keys[i])] == REMOVE && (keys[i] >>> 31) == (keys[i - 1] >>> 31)) {
+                throw new ListException("Position removed twice");
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the mutation index stored in a packed sort key.
+     *
+     * @param key a key from sortedKeys
+     * @return the mutation index
+     */
+    static int indexOf(long key) {
+        return (int) (key & 0x7FFFFFFFL);
+    }
+}
@@ -0,0 +1,109 @@
+package linkedlists;
+
+import coins.Coin;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tallies a large list of coins on a ForkJoinPool.
+ * A linked list cannot be split in the middle without walking to it, so
+ * the list is first cut into segments in one pass that records the first
+ * node of each segment. The segments are then tallied in parallel and
+ * the tallies combined pairwise.
+ *
+ * The list must not be changed while it is being aggregated.
+ *
+ * @author ICS211
+ * @version 1.0
+ */
+public class ParallelCoinAggregator {
+    private final ForkJoinPool pool;
+    private final int segments;
+
+    /**
+     * Constructs an aggregator on the common pool, with a few segments per
+     * worker so uneven segments balance out.
+     */
+    public ParallelCoinAggregator() {
+        this(ForkJoinPool.commonPool(), 4 * ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Constructs an aggregator.
+     *
+     * @param pool the pool to run on
+     * @param segments how many segments to cut a list into
+     * @throws IllegalArgumentException if segments is not positive
+     */
+    public ParallelCoinAggregator(ForkJoinPool pool, int segments) {
+        if (segments <= 0) {
+            throw new IllegalArgumentException("Segment count must be positive");
+        }
+        this.pool = pool;
+        this.segments = segments;
+    }
+
+    /**
+     * Tallies every coin in a list.
+     * Time complexity: O(n) for the cutting pass plus O(n / p) for the
+     * parallel part, where p is the pool parallelism
+     *
+     * @param list the coins to tally
+     * @return the combined tally
+     */
+    public CoinTally aggregate(SingleLinkedList<? extends Coin> list) {
+        int size = list.size();
+        if (size == 0) {
+            return new CoinTally();
+        }
+        int count = Math.min(segments, size);
+        int length = (size + count - 1) / count;
+        count = (size + length - 1) / length;
+        SLLNode<?>[] starts = new SLLNode<?>[count];
+        SLLNode<? extends Coin> node = list.firstNode();
+        for (int i = 0; i < size; i++) {
+            if (i % length == 0) {
+                starts[i / length] = node;
+            }
+            node = node.next;
+        }
+        return pool.invoke(new SegmentTask(starts, length, 0, count));
+    }
+
+    /** Tallies the segments from lo (inclusive) to hi (exclusive).
+     * ForkJoinTask is Serializable, but these tasks are never serialized. */
+    @SuppressWarnings("serial")
+    private static final class SegmentTask extends RecursiveTask<CoinTally> {
+        private final SLLNode<?>[] starts;
+        private final int length;
+        private final int lo;
+        private final int hi;
+
+        SegmentTask(SLLNode<?>[] starts, int length, int lo, int hi) {
+            this.starts = starts;
+            this.length = length;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected CoinTally compute() {
+            if (hi - lo == 1) {
+                CoinTally tally = new CoinTally();
+                SLLNode<?> node = starts[lo];
+                for (int i = 0; i < length && node != null; i++) {
+                    tally.add((Coin) node.data);
+                    node = node.next;
+                }
+                return tally;
+            }
+            int mid = (lo + hi) >>> 1;
+            SegmentTask right = new SegmentTask(starts, length, mid, hi);
+            right.fork();
+            CoinTally tally = new SegmentTask(starts, length, lo, mid).compute();
+            tally.combine(right.join());
+            return tally;
+        }
+    }
+}
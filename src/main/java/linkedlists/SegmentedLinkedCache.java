@@ -0,0 +1,208 @@
+package linkedlists;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe cache made of independent {@link LinkedCache} segments,
+ * each guarded by its own lock. A key always maps to the same segment, so
+ * threads working on different segments never wait for each other. The
+ * capacity is divided evenly between the segments and each segment evicts
+ * on its own, so eviction order is only LRU or LFU within a segment.
+ *
+ * Because each segment holds only its share of the capacity, a single
+ * entry may weigh at most capacity / segmentCount (rounded down), not the
+ * whole capacity; put throws IllegalArgumentException for a heavier entry.
+ * There are never more segments than units of capacity, so every segment
+ * can hold at least an entry of weight 1.
+ *
+ * Eviction listeners are called while the segment lock is held.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ICS211
+ * @version 1.0
+ */
+public class SegmentedLinkedCache<K, V> {
+    private final LinkedCache<K, V>[] segments;
+    private final ReentrantLock[] locks;
+
+    /**
+     * Constructs a cache that holds at most capacity entries in total.
+     *
+     * @param capacity the most entries to hold
+     * @param policy which entry to evict when a segment is full
+     * @param segmentCount the number of segments; use about the number of cores.
+     *        It is lowered to capacity if capacity is smaller
+     * @throws IllegalArgumentException if segmentCount is not positive
+     */
+    public SegmentedLinkedCache(long capacity, EvictionPolicy policy, int segmentCount) {
+        this(capacity, policy, segmentCount, (key, value) -> 1);
+    }
+
+    /**
+     * Constructs a cache whose entries may weigh at most capacity in total.
+     *
+     * @param capacity the most total weight to hold
+     * @param policy which entry to evict when a segment is full
+     * @param segmentCount the number of segments; use about the number of cores.
+     *        It is lowered to capacity if capacity is smaller
+     * @param weigher computes the weight of each entry
+     * @throws IllegalArgumentException if segmentCount is not positive or
+     *         capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedLinkedCache(long capacity, EvictionPolicy policy, int segmentCount,
+            Weigher<? super K, ? super V> weigher) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("Segment count must be positive");
+        }
+        if (capacity < segmentCount) {
+            segmentCount = (int) Math.max(capacity, 1); // no segment with a share of 0
+        }
+        segments = (LinkedCache<K, V>[]) new LinkedCache<?, ?>[segmentCount];
+        locks = new ReentrantLock[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long share = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new LinkedCache<>(share, policy, weigher);
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Sets the listener told about evicted entries, on every segment.
+     *
+     * @param listener the listener, or null for none
+     */
+    public void setEvictionListener(EvictionListener<? super K, ? super V> listener) {
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                segments[i].setEvictionListener(listener);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the value for a key and records the access.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if the key is not cached
+     */
+    public V get(K key) {
+        int i = segmentFor(key);
+        locks[i].lock();
+        try {
+            return segments[i].get(key);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * Caches a value, evicting from the key's segment if it is full.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the value previously cached for the key, or null
+     * @throws IllegalArgumentException if the entry weighs more than its
+     *         segment's share of the capacity
+     */
+    public V put(K key, V value) {
+        int i = segmentFor(key);
+        locks[i].lock();
+        try {
+            return segments[i].put(key, value);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * Removes a key from the cache.
+     *
+     * @param key the key to remove
+     * @return the value that was cached for the key, or null
+     */
+    public V remove(K key) {
+        int i = segmentFor(key);
+        locks[i].lock();
+        try {
+            return segments[i].remove(key);
+        } finally {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * @return the number of cached entries across all segments
+     */
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                total += segments[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of get calls that found their key
+     */
+    public long hitCount() {
+        long total = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                total += segments[i].hitCount();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of get calls that did not find their key
+     */
+    public long missCount() {
+        long total = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                total += segments[i].missCount();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of entries evicted to stay within capacity
+     */
+    public long evictionCount() {
+        long total = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].lock();
+            try {
+                total += segments[i].evictionCount();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return total;
+    }
+
+    /** Picks the segment for a key, spreading the high hash bits down. */
+    private int segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return Math.floorMod(h, segments.length);
+    }
+}
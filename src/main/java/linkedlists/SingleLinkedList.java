@@ -1,5 +1,10 @@
 package linkedlists;
 
+import coins.Coin;
+
+import java.io.IOException;
+import java.util.Locale;
+
 /**
  * A generic singly linked list implementation that stores elements of type T.
  * This class implements the List interface and provides standard list operations
@@ -12,10 +17,27 @@ package linkedlists;
  * @version 1.0
  */
 public class SingleLinkedList<T> implements List<T> {
+    /** Most elements toString will render before truncating */
+    public static final int DEFAULT_TO_STRING_LIMIT = 1000;
+    /** Thrown by removeFirstNoTrace; it has no stack trace, so one instance serves every call */
+    private static final ListException EMPTY = new ListException("List is empty", false);
+
     /** Reference to the first node in the linked list */
     private SLLNode<T> head;  // points to first node in list
     /** The current number of elements in the list */
     private int size;         // number of elements in list
+    /** Node most recently reached by a positional operation, or null */
+    private SLLNode<T> finger;
+    /** Position of the finger node */
+    private int fingerIndex;
+    /** Positional lookups that started from the finger */
+    private long fingerHits;
+    /** Positional lookups that had to start from head */
+    private long fingerMisses;
+    /** Links followed by the most recent nodeAt call */
+    private int lastWalk;
+    /** Receives operation reports, or null when instrumentation is off */
+    private ListProbe probe;
 
     /**
      * Constructs an empty singly linked list.
@@ -39,10 +61,14 @@ public class SingleLinkedList<T> implements List<T> {
         newNode.next = head;  // new node points to current head
         head = newNode;       // head now points to new node
         size++;
+        if (finger != null) {
+            fingerIndex++;    // every old node moved back one place
+        }
     }
 
     /**
      * Adds an element to the end of the list.
+     * The walk to the end starts from the finger when there is one.
      * @param element the element to be added to the end of the list
      * Time complexity: O(n) where n is the number of elements in the list
      */
@@ -51,7 +77,7 @@ public class SingleLinkedList<T> implements List<T> {
         if (head == null) {
             head = newNode; // List was empty, new node is now head
         } else {
-            SLLNode<T> current = head;
+            SLLNode<T> current = finger != null ? finger : head;
             while (current.next != null) {
                 current = current.next; // Traverse to the end of the list
             }
@@ -69,24 +95,39 @@ public class SingleLinkedList<T> implements List<T> {
      */
     @Override
     public boolean remove(T element) {
+        ListProbe p = probe;
+        long start = p != null ? System.nanoTime() : 0L;
         if (head == null) {
+            if (p != null) {
+                p.completed(ListOperation.REMOVE, 0, System.nanoTime() - start);
+            }
             return false; // List is empty
         }
         if (head.data.equals(element)) {
             head = head.next; // Remove head
             size--;
+            removedAt(0);
+            if (p != null) {
+                p.completed(ListOperation.REMOVE, 0, System.nanoTime() - start);
+            }
             return true;
         }
         SLLNode<T> current = head;
+        int index = 1;        // position of current.next
         while (current.next != null && !current.next.data.equals(element)) {
             current = current.next;
+            index++;
         }
-        if (current.next == null) {
-            return false; // Element not found
+        boolean found = current.next != null;
+        if (found) {
+            current.next = current.next.next; // Bypass the node to be removed
+            size--;
+            removedAt(index);
         }
-        current.next = current.next.next; // Bypass the node to be removed
-        size--;
-        return true;
+        if (p != null) {
+            p.completed(ListOperation.REMOVE, index - 1, System.nanoTime() - start);
+        }
+        return found;
     }
 
     /**
@@ -98,19 +139,64 @@ public class SingleLinkedList<T> implements List<T> {
      */
     @Override
     public T removeFirst() throws ListException {
+        ListProbe p = probe;
+        long start = p != null ? System.nanoTime() : 0L;
         if (head == null) {
+            if (p != null) {
+                p.failed(ListOperation.REMOVE);
+            }
             throw new ListException("List is empty");
         }
         T removedData = head.data;
         head = head.next;
         size--;
+        removedAt(0);
+        if (p != null) {
+            p.completed(ListOperation.REMOVE, 0, System.nanoTime() - start);
+        }
         return removedData;
     }   
 
+    /**
+     * Removes and returns the first element, like removeFirst, but throws a
+     * shared ListException without a stack trace if the list is empty. For
+     * callers that expect empty lists often and catch the exception; the
+     * exception says nothing about where it was thrown.
+     * Time complexity: O(1)
+     * 
+     * @return the first element that was removed from the list
+     * @throws ListException if the list is empty
+     */
+    public T removeFirstNoTrace() throws ListException {
+        if (head == null) {
+            ListProbe p = probe;
+            if (p != null) {
+                p.failed(ListOperation.REMOVE);
+            }
+            throw EMPTY;
+        }
+        return removeFirst();
+    }
+
+    /**
+     * Removes and returns the first element, or returns null if the list is
+     * empty. Unlike removeFirst, an empty list costs no exception.
+     * Time complexity: O(1)
+     * 
+     * @return the first element that was removed, or null if the list is empty
+     */
+    public T pollFirst() {
+        if (head == null) {
+            return null;
+        }
+        return removeFirst();
+    }
+
     /**
      * Removes and returns the element at the specified position in the list.
      * Positions are zero-indexed, where 0 is the first element.
-     * Time complexity: O(n) where n is the position of the element
+     * Time complexity: O(n) where n is the position of the element, or
+     * O(d) where d is the distance ahead of the previous positional access
      * 
      * @param position the zero-based index of the element to remove
      * @return the element that was removed from the list
@@ -118,19 +204,24 @@ public class SingleLinkedList<T> implements List<T> {
      */
     @Override
     public T remove(int position) throws ListException {
+        ListProbe p = probe;
         if (position < 0 || position >= size) {
+            if (p != null) {
+                p.failed(ListOperation.REMOVE);
+            }
             throw new ListException("Invalid position");
         }
         if (position == 0) {
             return removeFirst();
         }
-        SLLNode<T> current = head;
-        for (int i = 0; i < position - 1; i++) {
-            current = current.next;
-        }
+        long start = p != null ? System.nanoTime() : 0L;
+        SLLNode<T> current = nodeAt(position - 1);  // finger stays on current
         T removedData = current.next.data;
         current.next = current.next.next;
         size--;
+        if (p != null) {
+            p.completed(ListOperation.REMOVE, lastWalk, System.nanoTime() - start);
+        }
         return removedData;
     }
 
@@ -144,14 +235,18 @@ public class SingleLinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
+        ListProbe p = probe;
+        long start = p != null ? System.nanoTime() : 0L;
         SLLNode<T> current = head;
-        while (current != null) {
-            if (current.data.equals(element)) {
-                return true;
-            }
+        int steps = 0;
+        while (current != null && !current.data.equals(element)) {
             current = current.next;
+            steps++;
+        }
+        if (p != null) {
+            p.completed(ListOperation.CONTAINS, steps, System.nanoTime() - start);
         }
-        return false;
+        return current != null;
     }
 
     /**
@@ -166,11 +261,17 @@ public class SingleLinkedList<T> implements List<T> {
      */
     @Override
     public int countUniques() {
+        ListProbe p = probe;
+        long start = p != null ? System.nanoTime() : 0L;
         if (head == null) {
+            if (p != null) {
+                p.completed(ListOperation.COUNT_UNIQUES, 0, System.nanoTime() - start);
+            }
             return 0; // Empty list has no unique elements
         }
         
         int uniqueCount = 0;
+        int steps = 0;
         SLLNode<T> current = head;
         
         // For each node, check if its data appears earlier in the list
@@ -185,6 +286,7 @@ public class SingleLinkedList<T> implements List<T> {
                     break; // Found a duplicate earlier in the list
                 }
                 checker = checker.next;
+                steps++;
             }
             
             // If no duplicate was found earlier, this is the first occurrence
@@ -193,8 +295,12 @@ public class SingleLinkedList<T> implements List<T> {
             }
             
             current = current.next;
+            steps++;
         }
         
+        if (p != null) {
+            p.completed(ListOperation.COUNT_UNIQUES, steps, System.nanoTime() - start);
+        }
         return uniqueCount;
     }
 
@@ -222,59 +328,448 @@ public class SingleLinkedList<T> implements List<T> {
 
     @Override
     /** Retrieves an element from a specific position in the list.
+     * Time complexity: O(n) where n is the position, or O(d) where d is
+     * the distance ahead of the previous positional access
      * 
      * @param position the position of the element to retrieve
      * @return the element at the specified position
      * @throws ListException if the position is invalid
      */
     public T get(int position) throws ListException {
+        ListProbe p = probe;
         if (position < 0 || position >= size) {
+            if (p != null) {
+                p.failed(ListOperation.GET);
+            }
             throw new ListException("Invalid position");
         }
-        SLLNode<T> current = head;
-        for (int i = 0; i < position; i++) {
+        if (p == null) {
+            return nodeAt(position).data;
+        }
+        long start = System.nanoTime();
+        T data = nodeAt(position).data;
+        p.completed(ListOperation.GET, lastWalk, System.nanoTime() - start);
+        return data;
+    }
+
+    /** Retrieves an element from a specific position in the list, or returns
+     * null if the position is invalid. Unlike get, a bad position costs no
+     * exception.
+     * Time complexity: same as get
+     * 
+     * @param position the position of the element to retrieve
+     * @return the element at the specified position, or null if there is none
+     */
+    public T tryGet(int position) {
+        if (position < 0 || position >= size) {
+            return null;
+        }
+        return get(position);
+    }
+
+    /**
+     * Returns the node at a position and moves the finger to it.
+     * The walk starts from the finger if it is at or before the position,
+     * otherwise from head, so sequential and nearby accesses are cheap.
+     * The position must already be checked against size. Package-private
+     * so ListBenchmark can time get without the probe check.
+     *
+     * @param position the position of the node
+     * @return the node at the position
+     */
+    SLLNode<T> nodeAt(int position) {
+        SLLNode<T> current;
+        int i;
+        if (finger != null && fingerIndex <= position) {
+            current = finger;
+            i = fingerIndex;
+            fingerHits++;
+        } else {
+            current = head;
+            i = 0;
+            fingerMisses++;
+        }
+        lastWalk = position - i;
+        for (; i < position; i++) {
             current = current.next;
         }
-        return current.data;
+        finger = current;
+        fingerIndex = position;
+        return current;
+    }
+
+    /**
+     * Returns a lazy view of the elements of this list, in order. Views built
+     * from it with filter, map, limit and concat are evaluated in one walk of
+     * the nodes when a terminal operation runs, and see the list as it is then.
+     *
+     * @return a view of this list
+     */
+    public ListView<T> view() {
+        return ListView.ofNodes(() -> head);
     }
-    /** toString returns a string representation of the elements of the list */
+
+    /**
+     * Returns the first node, for package classes that walk the chain directly.
+     *
+     * @return the head node, or null if the list is empty
+     */
+    SLLNode<T> firstNode() {
+        return head;
+    }
+
+    /**
+     * Reverses the order of the list in place by relinking its nodes.
+     * Time complexity: O(n) where n is the number of elements in the list
+     * Space complexity: O(1) - no nodes are allocated
+     */
+    public void reverse() {
+        SLLNode<T> prev = null;
+        SLLNode<T> current = head;
+        while (current != null) {
+            SLLNode<T> next = current.next;
+            current.next = prev;
+            prev = current;
+            current = next;
+        }
+        head = prev;
+        finger = null;
+    }
+
+    /**
+     * Splits the list in two. This list keeps the elements before the
+     * position, and the elements from the position on are moved, nodes and
+     * all, into the returned list.
+     * Time complexity: O(n) where n is the position
+     * Space complexity: O(1) - no nodes are allocated
+     *
+     * @param position the position of the first element of the second list
+     * @return a new list holding the detached elements
+     * @throws ListException if the position is invalid (less than 0 or greater than size)
+     */
+    public SingleLinkedList<T> splitAt(int position) throws ListException {
+        if (position < 0 || position > size) {
+            throw new ListException("Invalid position");
+        }
+        SingleLinkedList<T> rest = new SingleLinkedList<>();
+        if (position == 0) {
+            rest.head = head;
+            head = null;
+            finger = null;
+        } else {
+            SLLNode<T> last = nodeAt(position - 1);  // finger stays on last
+            rest.head = last.next;
+            last.next = null;
+        }
+        rest.size = size - position;
+        size = position;
+        return rest;
+    }
+
+    /**
+     * Rotates the list left by a distance, so the element at that position
+     * becomes the first and the elements before it move to the end.
+     * Negative distances rotate right. Nodes are relinked, not copied.
+     * Time complexity: O(n) where n is the number of elements in the list
+     * Space complexity: O(1) - no nodes are allocated
+     *
+     * @param distance how many places to rotate left
+     */
+    public void rotate(int distance) {
+        if (size == 0) {
+            return;
+        }
+        int shift = ((distance % size) + size) % size;
+        if (shift == 0) {
+            return;
+        }
+        SLLNode<T> newLast = nodeAt(shift - 1);
+        SLLNode<T> oldLast = newLast;
+        while (oldLast.next != null) {
+            oldLast = oldLast.next;
+        }
+        oldLast.next = head;
+        head = newLast.next;
+        newLast.next = null;
+        finger = null;
+    }
+
+    /**
+     * Moves every element of another list onto the end of this one by
+     * linking the other list's nodes after this list's last node. The
+     * other list is left empty.
+     * Time complexity: O(n) where n is the number of elements in this list
+     * Space complexity: O(1) - no nodes are allocated
+     *
+     * @param other the list whose elements are appended
+     * @throws ListException if other is this list
+     */
+    public void concat(SingleLinkedList<T> other) throws ListException {
+        if (other == this) {
+            throw new ListException("Cannot concat a list to itself");
+        }
+        if (other.head == null) {
+            return;
+        }
+        if (head == null) {
+            head = other.head;
+        } else {
+            SLLNode<T> last = finger != null ? finger : head;
+            while (last.next != null) {
+                last = last.next;
+            }
+            last.next = other.head;
+        }
+        size += other.size;
+        other.head = null;
+        other.size = 0;
+        other.finger = null;
+    }
+
+    /**
+     * Applies a batch of positional inserts and removes in one forward pass.
+     * The mutations are sorted by their position in the list as it was
+     * before the batch (see MutationBatch), then the list is walked once,
+     * splicing in and unlinking nodes on the way. The batch is checked
+     * before anything changes, so an invalid batch leaves the list as it was.
+     * Time complexity: O(m log m + n) where m is the batch size and n is
+     * the number of elements in the list
+     *
+     * @param batch the mutations to apply
+     * @throws ListException if a position is invalid or removed twice
+     */
+    public void apply(MutationBatch<T> batch) throws ListException {
+        apply(batch, batch.sortedKeys(size));
+    }
+
+    /**
+     * Applies a batch whose mutations were already checked and sorted, so
+     * callers that check a batch first do not sort it twice.
+     *
+     * @param batch the mutations to apply
+     * @param keys the result of batch.sortedKeys(size())
+     */
+    void apply(MutationBatch<T> batch, long[] keys) {
+        SLLNode<T> prev = null;      // last node of the new list so far
+        SLLNode<T> current = head;   // node originally at index
+        int index = 0;
+        for (long key : keys) {
+            int m = MutationBatch.indexOf(key);
+            int position = batch.position(m);
+            while (index < position) {
+                prev = current;
+                current = current.next;
+                index++;
+            }
+            if (batch.kind(m) == MutationBatch.INSERT) {
+                SLLNode<T> newNode = new SLLNode<>(batch.element(m), current);
+                if (prev == null) {
+                    head = newNode;
+                } else {
+                    prev.next = newNode;
+                }
+                prev = newNode;
+                size++;
+            } else {
+                current = current.next;
+                if (prev == null) {
+                    head = current;
+                } else {
+                    prev.next = current;
+                }
+                index++;
+                size--;
+            }
+        }
+        finger = null;
+    }
+
+    /**
+     * Keeps the finger valid after the node at a position was removed.
+     *
+     * @param position the position the removed node had
+     */
+    private void removedAt(int position) {
+        if (finger != null) {
+            if (fingerIndex == position) {
+                finger = null;
+            } else if (fingerIndex > position) {
+                fingerIndex--;
+            }
+        }
+    }
+
+    /**
+     * Returns how many positional lookups continued from the finger.
+     *
+     * @return the number of finger hits
+     */
+    public long getFingerHits() {
+        return fingerHits;
+    }
+
+    /**
+     * Returns how many positional lookups had to start from head.
+     *
+     * @return the number of finger misses
+     */
+    public long getFingerMisses() {
+        return fingerMisses;
+    }
+
+    /**
+     * Installs a probe that is told about every get, insert, remove,
+     * contains and countUniques call. With no probe (the default) the
+     * operations do no timing or reporting at all.
+     *
+     * @param probe the probe to install, or null to turn instrumentation off
+     */
+    public void setProbe(ListProbe probe) {
+        this.probe = probe;
+    }
+
+    /**
+     * Returns the installed probe.
+     *
+     * @return the probe, or null if instrumentation is off
+     */
+    public ListProbe getProbe() {
+        return probe;
+    }
+    /** toString returns a string representation of the elements of the list.
+     * At most DEFAULT_TO_STRING_LIMIT elements are shown, so logging a huge
+     * list stays cheap; use writeTo to render every element.
+     */
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        SLLNode<T> current = head;
-        while (current != null) {
-            sb.append(current.data);
-            if (current.next != null) {
-                sb.append(" -> ");
+        try {
+            writeTo(sb, DEFAULT_TO_STRING_LIMIT);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes every element of the list to a destination, in the same format
+     * as toString, without building the whole text in memory.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param out where to write the elements, such as a Writer
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeTo(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes at most maxElements elements to a destination. If elements are
+     * left over, the output ends with a note such as "... (999,998 more)".
+     * Time complexity: O(min(n, maxElements))
+     *
+     * @param out where to write the elements, such as a Writer
+     * @param maxElements the most elements to write
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        writeNodes(out, head, size, maxElements);
+    }
+
+    /**
+     * Writes a chain of nodes joined by arrows, truncating after maxElements.
+     *
+     * @param out where to write the elements
+     * @param first the first node of the chain
+     * @param count the number of nodes in the chain
+     * @param maxElements the most elements to write
+     * @throws IOException if out cannot be written
+     */
+    static void writeNodes(Appendable out, SLLNode<?> first, int count, int maxElements)
+            throws IOException {
+        SLLNode<?> current = first;
+        int written = 0;
+        while (current != null && written < maxElements) {
+            if (written > 0) {
+                out.append(" -> ");
             }
+            writeElement(out, current.data);
+            written++;
             current = current.next;
         }
-        return sb.toString();
+        writeRemainder(out, written, count - written);
+    }
+
+    /**
+     * Writes one element. Strings and coins are written directly; anything
+     * else goes through its toString method.
+     *
+     * @param out where to write the element
+     * @param element the element to write
+     * @throws IOException if out cannot be written
+     */
+    static void writeElement(Appendable out, Object element) throws IOException {
+        if (element instanceof CharSequence) {
+            out.append((CharSequence) element);
+        } else if (element instanceof Coin) {
+            ((Coin) element).appendTo(out);
+        } else {
+            out.append(String.valueOf(element));
+        }
+    }
+
+    /**
+     * Writes the truncation note for elements left out of the output.
+     *
+     * @param out where to write the note
+     * @param written the number of elements already written
+     * @param remaining the number of elements left out
+     * @throws IOException if out cannot be written
+     */
+    static void writeRemainder(Appendable out, int written, long remaining) throws IOException {
+        if (remaining > 0) {
+            if (written > 0) {
+                out.append(" -> ");
+            }
+            out.append("... (").append(String.format(Locale.US, "%,d", remaining)).append(" more)");
+        }
     }
 
     @Override
     /** Inserts an element at a specific position in the list.
+     * Time complexity: O(n) where n is the position, or O(d) where d is
+     * the distance ahead of the previous positional access
      * 
      * @param position the position to insert the element at
      * @param element the element to insert
      * @throws ListException if the position is invalid
      */
     public void insert(int position, T element) throws ListException {
+        ListProbe p = probe;
         if (position < 0 || position > size) {
+            if (p != null) {
+                p.failed(ListOperation.INSERT);
+            }
             throw new ListException("Invalid position");
         }
+        long start = p != null ? System.nanoTime() : 0L;
+        int walked = 0;
         SLLNode<T> newNode = new SLLNode<>(element);
         if (position == 0) {
             newNode.next = head;
             head = newNode;
-        } else {
-            SLLNode<T> current = head;
-            for (int i = 0; i < position - 1; i++) {
-                current = current.next;
+            if (finger != null) {
+                fingerIndex++;
             }
+        } else {
+            SLLNode<T> current = nodeAt(position - 1);  // finger stays on current
+            walked = lastWalk;
             newNode.next = current.next;
             current.next = newNode;
         }
         size++;
+        if (p != null) {
+            p.completed(ListOperation.INSERT, walked, System.nanoTime() - start);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,422 @@
+package linkedlists;
+
+import java.io.IOException;
+
+/**
+ * A singly linked list that keeps its elements in ascending order.
+ * Elements are compared with compareTo, and two elements that compare
+ * as 0 are treated as equal by contains, remove and countUniques. Because
+ * the list is ordered, searches stop as soon as they pass the place the
+ * element would be, duplicates are always next to each other, and two
+ * sorted lists can be merged or intersected, and duplicates dropped, in
+ * one pass by relinking their existing nodes.
+ *
+ * Equal elements keep the order in which they were added.
+ *
+ * @param <T> the type of elements stored in this list
+ * @author ICS211
+ * @version 1.0
+ */
+public class SortedLinkedList<T extends Comparable<? super T>> implements List<T> {
+    /** Reference to the first (smallest) node in the linked list */
+    private SLLNode<T> head;
+    /** The current number of elements in the list */
+    private int size;
+
+    /**
+     * Constructs an empty sorted linked list.
+     */
+    public SortedLinkedList() {
+        head = null;
+        size = 0;
+    }
+
+    /**
+     * Adds an element in its sorted place, after any equal elements.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void add(T element) {
+        SLLNode<T> newNode = new SLLNode<T>(element);
+        if (head == null || element.compareTo(head.data) < 0) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            SLLNode<T> current = head;
+            while (current.next != null && current.next.data.compareTo(element) <= 0) {
+                current = current.next;
+            }
+            newNode.next = current.next;
+            current.next = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Adds an element in its sorted place. A sorted list has no free choice
+     * of position, so this is the same as add.
+     * Time complexity: O(n) where n is the number of elements in the list
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void addLast(T element) {
+        add(element);
+    }
+
+    /**
+     * Inserts an element at a specific position, as long as the list stays
+     * sorted: the element must be no smaller than the one before the position
+     * and no larger than the one at it.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position to insert the element at
+     * @param element the element to insert
+     * @throws ListException if the position is invalid or breaks the sort order
+     */
+    @Override
+    public void insert(int position, T element) throws ListException {
+        if (position < 0 || position > size) {
+            throw new ListException("Invalid position");
+        }
+        SLLNode<T> prev = null;
+        SLLNode<T> current = head;
+        for (int i = 0; i < position; i++) {
+            prev = current;
+            current = current.next;
+        }
+        if ((prev != null && prev.data.compareTo(element) > 0)
+                || (current != null && element.compareTo(current.data) > 0)) {
+            throw new ListException("Position breaks sort order");
+        }
+        SLLNode<T> newNode = new SLLNode<T>(element, current);
+        if (prev == null) {
+            head = newNode;
+        } else {
+            prev.next = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Retrieves an element from a specific position in the list.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the position of the element to retrieve
+     * @return the element at the specified position
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public T get(int position) throws ListException {
+        if (position < 0 || position >= size) {
+            throw new ListException("Invalid position");
+        }
+        SLLNode<T> current = head;
+        for (int i = 0; i < position; i++) {
+            current = current.next;
+        }
+        return current.data;
+    }
+
+    /**
+     * Removes the first element equal to the given one. The search stops
+     * once it reaches a larger element.
+     * Time complexity: O(k) where k is the number of smaller elements
+     *
+     * @param element the element to be removed from the list
+     * @return true if the element was found and removed, false otherwise
+     */
+    @Override
+    public boolean remove(T element) {
+        SLLNode<T> prev = null;
+        SLLNode<T> current = head;
+        while (current != null) {
+            int cmp = current.data.compareTo(element);
+            if (cmp == 0) {
+                if (prev == null) {
+                    head = current.next;
+                } else {
+                    prev.next = current.next;
+                }
+                size--;
+                return true;
+            }
+            if (cmp > 0) {
+                return false; // passed the place it would be
+            }
+            prev = current;
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the first (smallest) element.
+     * Time complexity: O(1)
+     *
+     * @return the first element that was removed from the list
+     * @throws ListException if the list is empty
+     */
+    @Override
+    public T removeFirst() throws ListException {
+        if (head == null) {
+            throw new ListException("List is empty");
+        }
+        T removedData = head.data;
+        head = head.next;
+        size--;
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the element at the specified position in the list.
+     * Time complexity: O(n) where n is the position
+     *
+     * @param position the zero-based index of the element to remove
+     * @return the element that was removed from the list
+     * @throws ListException if the position is invalid
+     */
+    @Override
+    public T remove(int position) throws ListException {
+        if (position < 0 || position >= size) {
+            throw new ListException("Invalid position");
+        }
+        if (position == 0) {
+            return removeFirst();
+        }
+        SLLNode<T> current = head;
+        for (int i = 0; i < position - 1; i++) {
+            current = current.next;
+        }
+        T removedData = current.next.data;
+        current.next = current.next.next;
+        size--;
+        return removedData;
+    }
+
+    /**
+     * Checks if the list contains an element equal to the given one.
+     * The search stops once it reaches a larger element.
+     * Time complexity: O(k) where k is the number of smaller elements
+     *
+     * @param element the element to search for in the list
+     * @return true if the element is found in the list, false otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        SLLNode<T> current = head;
+        while (current != null) {
+            int cmp = current.data.compareTo(element);
+            if (cmp >= 0) {
+                return cmp == 0;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * Time complexity: O(1)
+     *
+     * @return the number of elements currently in the list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     * Time complexity: O(1)
+     *
+     * @return true if the list contains no elements, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of unique elements in the list. Equal elements
+     * are next to each other, so each node only needs comparing with the
+     * one before it.
+     * Time complexity: O(n) where n is the number of elements in the list
+     * Space complexity: O(1)
+     *
+     * @return the count of unique elements in the list
+     */
+    @Override
+    public int countUniques() {
+        int uniqueCount = 0;
+        SLLNode<T> prev = null;
+        for (SLLNode<T> current = head; current != null; current = current.next) {
+            if (prev == null || prev.data.compareTo(current.data) != 0) {
+                uniqueCount++;
+            }
+            prev = current;
+        }
+        return uniqueCount;
+    }
+
+    /**
+     * Moves every element of another sorted list into this one, keeping the
+     * order. Runs of the other list that fall between two nodes of this list
+     * are spliced in with one relink, and once this list runs out the rest of
+     * the other list is attached whole. No nodes are allocated; the other
+     * list is left empty. Equal elements from this list stay first.
+     *
+     * This is a multiset union: duplicates are kept. Call dedup afterwards
+     * for a set union.
+     * Time complexity: O(n + m) where n and m are the sizes of the two lists
+     *
+     * @param other the list to merge into this one
+     * @throws ListException if other is this list
+     */
+    public void merge(SortedLinkedList<T> other) throws ListException {
+        if (other == this) {
+            throw new ListException("Cannot merge a list with itself");
+        }
+        SLLNode<T> run = other.head;
+        SLLNode<T> prev = null;      // last node already in place
+        SLLNode<T> current = head;   // next node of this list
+        while (run != null) {
+            // step over nodes of this list that belong before the run
+            while (current != null && current.data.compareTo(run.data) <= 0) {
+                prev = current;
+                current = current.next;
+            }
+            if (current == null) {
+                // this list is used up, attach the rest of the other list
+                if (prev == null) {
+                    head = run;
+                } else {
+                    prev.next = run;
+                }
+                break;
+            }
+            // find the end of the run that belongs before current
+            SLLNode<T> runEnd = run;
+            while (runEnd.next != null && runEnd.next.data.compareTo(current.data) < 0) {
+                runEnd = runEnd.next;
+            }
+            SLLNode<T> rest = runEnd.next;
+            if (prev == null) {
+                head = run;
+            } else {
+                prev.next = run;
+            }
+            runEnd.next = current;
+            prev = runEnd;
+            run = rest;
+        }
+        size += other.size;
+        other.head = null;
+        other.size = 0;
+    }
+
+    /**
+     * Removes every element that is equal to the one before it, so each
+     * value is kept once, by its earliest node. Equal elements are next to
+     * each other, so one pass unlinking repeated neighbours is enough.
+     * Time complexity: O(n) where n is the number of elements in the list
+     * Space complexity: O(1)
+     *
+     * @return the number of elements removed
+     */
+    public int dedup() {
+        int removed = 0;
+        SLLNode<T> current = head;
+        while (current != null && current.next != null) {
+            if (current.data.compareTo(current.next.data) == 0) {
+                current.next = current.next.next;
+                removed++;
+            } else {
+                current = current.next;
+            }
+        }
+        size -= removed;
+        return removed;
+    }
+
+    /**
+     * Keeps only the elements of this list that have an equal element in
+     * another sorted list, matching each element of the other list at most
+     * once. Unmatched nodes are unlinked; the other list is not changed and
+     * no nodes are allocated.
+     * Time complexity: O(n + m) where n and m are the sizes of the two lists
+     *
+     * @param other the list to intersect with
+     */
+    public void intersect(SortedLinkedList<T> other) {
+        if (other == this) {
+            return;
+        }
+        SLLNode<T> kept = null;      // last node kept so far
+        SLLNode<T> current = head;
+        SLLNode<T> match = other.head;
+        int keptCount = 0;
+        head = null;
+        while (current != null && match != null) {
+            int cmp = current.data.compareTo(match.data);
+            if (cmp < 0) {
+                current = current.next;        // no partner, drop it
+            } else if (cmp > 0) {
+                match = match.next;
+            } else {
+                if (kept == null) {
+                    head = current;
+                } else {
+                    kept.next = current;
+                }
+                kept = current;
+                keptCount++;
+                current = current.next;
+                match = match.next;
+            }
+        }
+        if (kept != null) {
+            kept.next = null;
+        }
+        size = keptCount;
+    }
+
+    /**
+     * Returns a lazy view of the elements of this list, in order. Views built
+     * from it with filter, map, limit and concat are evaluated in one walk of
+     * the nodes when a terminal operation runs, and see the list as it is then.
+     *
+     * @return a view of this list
+     */
+    public ListView<T> view() {
+        return ListView.ofNodes(() -> head);
+    }
+
+    /** toString returns a string representation of the elements of the list,
+     * truncated after SingleLinkedList.DEFAULT_TO_STRING_LIMIT elements */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeTo(sb, SingleLinkedList.DEFAULT_TO_STRING_LIMIT);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes at most maxElements elements to a destination, in the same
+     * format as SingleLinkedList.writeTo.
+     * Time complexity: O(min(n, maxElements))
+     *
+     * @param out where to write the elements, such as a Writer
+     * @param maxElements the most elements to write
+     * @throws IOException if out cannot be written
+     */
+    public void writeTo(Appendable out, int maxElements) throws IOException {
+        SingleLinkedList.writeNodes(out, head, size, maxElements);
+    }
+}
@@ -0,0 +1,20 @@
+package linkedlists;
+
+/**
+ * Computes how much of a {@link LinkedCache}'s capacity an entry uses.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author ICS211
+ * @version 1.0
+ */
+public interface Weigher<K, V> {
+    /**
+     * Returns the weight of an entry.
+     *
+     * @param key the entry key
+     * @param value the entry value
+     * @return the weight, at least 0
+     */
+    long weigh(K key, V value);
+}
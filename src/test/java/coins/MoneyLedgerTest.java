@@ -0,0 +1,144 @@
+package coins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+* Tests for MoneyLedger, checking each query against a sum over a plain
+* list of the entries.
+* @author ICS211
+* @since 10/19/2026
+*/
+public class MoneyLedgerTest {
+  
+  @Test
+  public void randomOperationsMatchBruteForce() {
+    Random random = new Random(5);
+    MoneyLedger ledger = new MoneyLedger();
+    ArrayList<Money> model = new ArrayList<>();
+    for (int step = 0; step < 3_000; step++) {
+      String where = "step " + step;
+      if (model.isEmpty() || random.nextInt(3) > 0) {
+        Money m = randomMoney(random);
+        ledger.append(m);
+        model.add(m);
+      } else {
+        int index = random.nextInt(model.size());
+        Money m = randomMoney(random);
+        assertSame(where, model.set(index, m), ledger.set(index, m));
+      }
+      int n = model.size();
+      assertEquals(where, n, ledger.size());
+      int from = random.nextInt(n + 1);
+      int to = from + random.nextInt(n - from + 1);
+      assertSame(where, model.get(from % n), ledger.get(from % n));
+      assertEquals(where, sum(model, 0, n), ledger.totalCents());
+      assertEquals(where, sum(model, 0, to), ledger.prefixCents(to));
+      assertEquals(where, sum(model, from, to), ledger.rangeCents(from, to));
+      long amount = random.nextInt((int) sum(model, 0, n) + 200);
+      assertEquals(where + ", exceeding " + amount,
+          firstExceeding(model, amount), ledger.firstIndexExceeding(amount));
+    }
+  }
+  
+  @Test
+  public void emptyLedger() {
+    MoneyLedger ledger = new MoneyLedger();
+    assertEquals(0, ledger.totalCents());
+    assertEquals(0, ledger.prefixCents(0));
+    assertEquals(-1, ledger.firstIndexExceeding(0));
+  }
+  
+  @Test
+  public void invalidPositionsThrow() {
+    MoneyLedger ledger = new MoneyLedger();
+    ledger.append(new One());
+    ledger.append(new Five());
+    assertEquals(1, ledger.firstIndexExceeding(100));
+    assertEquals(-1, ledger.firstIndexExceeding(600));
+    expectOutOfBounds(() -> ledger.get(2));
+    expectOutOfBounds(() -> ledger.get(-1));
+    expectOutOfBounds(() -> ledger.set(2, new One()));
+    expectOutOfBounds(() -> ledger.prefixCents(3));
+    expectOutOfBounds(() -> ledger.rangeCents(2, 1));
+    expectOutOfBounds(() -> ledger.rangeCents(-1, 1));
+    expectOutOfBounds(() -> ledger.rangeCents(0, 3));
+  }
+  
+  @Test
+  public void negativeValueIsRejected() {
+    MoneyLedger ledger = new MoneyLedger();
+    ledger.append(new One());
+    Money debt = new Money() {
+      {
+        value = -0.25;
+      }
+      
+      public String getName() {
+        return "debt";
+      }
+      
+      public String getColor() {
+        return "red";
+      }
+    };
+    try {
+      ledger.append(debt);
+      fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertEquals(1, ledger.size());
+    }
+    try {
+      ledger.set(0, debt);
+      fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertEquals(100, ledger.totalCents());
+    }
+  }
+  
+  //a bill or any denomination of coin
+  private static Money randomMoney(Random random) {
+    int pick = random.nextInt(Denomination.values().length + 2);
+    if (pick == 0) {
+      return new One();
+    }
+    if (pick == 1) {
+      return new Five();
+    }
+    return Denomination.values()[pick - 2].newCoin();
+  }
+  
+  private static long sum(ArrayList<Money> model, int from, int to) {
+    long total = 0;
+    for (int i = from; i < to; i++) {
+      total += model.get(i).getCents();
+    }
+    return total;
+  }
+  
+  private static int firstExceeding(ArrayList<Money> model, long cents) {
+    long total = 0;
+    for (int i = 0; i < model.size(); i++) {
+      total += model.get(i).getCents();
+      if (total > cents) {
+        return i;
+      }
+    }
+    return -1;
+  }
+  
+  private static void expectOutOfBounds(Runnable call) {
+    try {
+      call.run();
+    } catch (IndexOutOfBoundsException e) {
+      return;
+    }
+    fail("Expected IndexOutOfBoundsException");
+  }
+}
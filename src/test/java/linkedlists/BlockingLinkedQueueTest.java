@@ -0,0 +1,122 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests for BlockingLinkedQueue: ordering, capacity, timeouts, draining
+ * and a many-producer, many-consumer run.
+ */
+public class BlockingLinkedQueueTest {
+
+    @Test
+    public void firstInFirstOut() throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        assertTrue(queue.isEmpty());
+        queue.put(1);
+        queue.offer(2);
+        queue.put(3);
+        assertEquals(3, queue.size());
+        assertEquals(Integer.valueOf(1), queue.take());
+        assertEquals(Integer.valueOf(2), queue.poll());
+        assertEquals(Integer.valueOf(3), queue.poll(1, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void boundedQueueRefusesWhenFull() throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(2);
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3));
+        assertEquals(0, queue.remainingCapacity());
+        long start = System.nanoTime();
+        assertFalse(queue.offer(3, 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        queue.take();
+        assertTrue(queue.offer(3, 20, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void pollTimesOutOnEmptyQueue() throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        long start = System.nanoTime();
+        assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void drainToMovesInOrder() {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>();
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        ArrayList<Integer> target = new ArrayList<>();
+        assertEquals(2, queue.drainTo(target, 2));
+        assertEquals(3, queue.drainTo(target));
+        assertEquals("[0, 1, 2, 3, 4]", target.toString());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void invalidArgumentsAreRejected() {
+        try {
+            new BlockingLinkedQueue<Integer>().offer(null);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException e) {
+            // expected
+        }
+        try {
+            new BlockingLinkedQueue<Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void producersAndConsumersHandOverEveryElement() throws InterruptedException {
+        BlockingLinkedQueue<Integer> queue = new BlockingLinkedQueue<>(16);
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicLong sum = new AtomicLong();
+        Thread[] threads = new Thread[2 * producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[producers + p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        sum.addAndGet(queue.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for ChangeLog: replaying a log, and recovering from a torn or
+ * corrupt record at its end.
+ */
+public class ChangeLogTest {
+    /** Writes each element as an int */
+    static final ElementCodec<Integer> INTS = new ElementCodec<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replayRebuildsTheList() throws IOException {
+        Path file = folder.newFile().toPath();
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        try (ChangeLog<Integer> log = new ChangeLog<>(file, INTS)) {
+            log.apply(list, new MutationBatch<Integer>().insert(0, 1).insert(0, 2));
+            log.apply(list, new MutationBatch<Integer>().remove(0).insert(2, 3));
+        }
+        assertEquals("2 -> 3", list.toString());
+        SingleLinkedList<Integer> replayed = new SingleLinkedList<>();
+        assertEquals(2, ChangeLog.replay(file, INTS, replayed));
+        assertEquals(list.toString(), replayed.toString());
+    }
+
+    @Test
+    public void invalidBatchIsNotLogged() throws Exception {
+        Path file = folder.newFile().toPath();
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        try (ChangeLog<Integer> log = new ChangeLog<>(file, INTS)) {
+            log.apply(list, new MutationBatch<Integer>().insert(0, 1));
+            ListConformanceTest.expectListException(
+                    () -> log.apply(list, new MutationBatch<Integer>().remove(5)));
+        }
+        assertEquals(1, ChangeLog.replay(file, INTS, new SingleLinkedList<>()));
+    }
+
+    @Test
+    public void batchesLoggedAfterATornRecordAreReplayed() throws IOException {
+        Path file = folder.newFile().toPath();
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        try (ChangeLog<Integer> log = new ChangeLog<>(file, INTS)) {
+            log.apply(list, new MutationBatch<Integer>().insert(0, 1));
+            log.apply(list, new MutationBatch<Integer>().insert(1, 2));
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 2); // tear the last record
+        }
+        list = new SingleLinkedList<>();
+        assertEquals(1, ChangeLog.replay(file, INTS, list));
+        assertEquals("1", list.toString());
+
+        try (ChangeLog<Integer> log = new ChangeLog<>(file, INTS)) {
+            log.apply(list, new MutationBatch<Integer>().insert(1, 3));
+        }
+        assertEquals("1 -> 3", list.toString());
+        SingleLinkedList<Integer> replayed = new SingleLinkedList<>();
+        assertEquals(2, ChangeLog.replay(file, INTS, replayed));
+        assertEquals("1 -> 3", replayed.toString());
+    }
+
+    @Test
+    public void garbageLengthEndsTheLog() throws IOException {
+        Path file = folder.newFile().toPath();
+        try (ChangeLog<Integer> log = new ChangeLog<>(file, INTS)) {
+            log.append(new MutationBatch<Integer>().insert(0, 7));
+        }
+        long valid = Files.size(file);
+        try (DataOutputStream out = new DataOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.APPEND))) {
+            out.writeInt(Integer.MAX_VALUE - 8); // a length the file cannot hold
+            out.writeInt(0);
+        }
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        assertEquals(1, ChangeLog.replay(file, INTS, list));
+        assertEquals("7", list.toString());
+        assertEquals(valid, ChangeLog.validLength(file));
+        new ChangeLog<>(file, INTS).close();
+        assertEquals(valid, Files.size(file));
+    }
+}
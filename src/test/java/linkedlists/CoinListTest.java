@@ -0,0 +1,27 @@
+package linkedlists;
+
+import coins.Coin;
+import coins.Denomination;
+
+import java.util.Random;
+
+/**
+ * Runs the list conformance suite against CoinList. Coins are compared
+ * by their packed code, which is what the list stores.
+ */
+public class CoinListTest extends ListConformanceTest<Coin> {
+    @Override
+    protected List<Coin> newList() {
+        return new CoinList();
+    }
+
+    @Override
+    protected Coin randomElement(Random random) {
+        return Denomination.unpack(random.nextInt(Denomination.CODE_COUNT));
+    }
+
+    @Override
+    protected Object key(Coin element) {
+        return Denomination.pack(element);
+    }
+}
@@ -0,0 +1,137 @@
+package linkedlists;
+
+import static org.junit.Assert.assertTrue;
+
+import coins.Denomination;
+
+import java.util.function.IntFunction;
+
+import org.junit.Test;
+
+/**
+ * Guards the time complexity promised in the Javadoc of the lists.
+ * Each check times an operation on a size n and on 2n and compares the
+ * two: doubling n should roughly double the time of a linear operation
+ * and roughly quadruple that of a quadratic one. A change that quietly
+ * makes a linear operation quadratic, such as reading a list in order
+ * with get after the finger stops being kept, doubles the ratio and fails
+ * the test.
+ *
+ * The bounds are loose and each size is timed several times keeping the
+ * best run, so that noise from the JIT and garbage collector does not
+ * cause failures.
+ */
+public class ComplexityGuardTest {
+    /** Largest accepted time ratio for a linear operation when n doubles */
+    private static final double LINEAR_RATIO = 3.2;
+    /** Largest accepted time ratio for a quadratic operation when n doubles */
+    private static final double QUADRATIC_RATIO = 6.0;
+    /** Timed runs per size; the fastest one counts */
+    private static final int RUNS = 7;
+    /** Calls timed together for operations that are too fast to time alone */
+    private static final int CALLS = 100;
+
+    /** Stops the JIT from removing work whose result is unused */
+    private static long sink;
+
+    @Test
+    public void addLastIsLinear() {
+        assertRatio("SingleLinkedList.addLast", LINEAR_RATIO, 50_000, n -> {
+            SingleLinkedList<Integer> list = filled(n);
+            return () -> {
+                for (int i = 0; i < CALLS; i++) {
+                    list.addLast(i);
+                }
+                sink += list.size();
+            };
+        });
+    }
+
+    @Test
+    public void sequentialGetIsLinearOverall() {
+        assertRatio("SingleLinkedList.get in order", LINEAR_RATIO, 100_000, n -> {
+            SingleLinkedList<Integer> list = filled(n);
+            return () -> {
+                long total = 0;
+                for (int i = 0; i < n; i++) {
+                    total += list.get(i);
+                }
+                sink += total;
+            };
+        });
+    }
+
+    @Test
+    public void sortedCountUniquesIsLinear() {
+        assertRatio("SortedLinkedList.countUniques", LINEAR_RATIO, 200_000, n -> {
+            SortedLinkedList<Integer> list = new SortedLinkedList<>();
+            for (int i = n - 1; i >= 0; i--) {
+                list.add(i / 3); // smallest first, so each add is O(1)
+            }
+            return () -> sink += list.countUniques();
+        });
+    }
+
+    @Test
+    public void coinListAddLastIsLinearOverall() {
+        assertRatio("CoinList.addLast", LINEAR_RATIO, 200_000, n -> {
+            CoinList list = new CoinList();
+            return () -> {
+                for (int i = 0; i < n; i++) {
+                    list.addLast(Denomination.unpack(i % Denomination.CODE_COUNT));
+                }
+                sink += list.size();
+            };
+        });
+    }
+
+    @Test
+    public void countUniquesIsNoWorseThanQuadratic() {
+        assertRatio("SingleLinkedList.countUniques", QUADRATIC_RATIO, 2_000, n -> {
+            SingleLinkedList<Integer> list = filled(n);
+            return () -> sink += list.countUniques();
+        });
+    }
+
+    /** Returns a list holding 0 to n - 1. */
+    private static SingleLinkedList<Integer> filled(int n) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int i = n - 1; i >= 0; i--) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Times an operation on n and 2n elements and fails if the time grows
+     * by more than the given ratio.
+     *
+     * @param name the operation, for the failure message
+     * @param maxRatio the largest accepted ratio of the two times
+     * @param n the smaller size
+     * @param setup builds a fresh run of the operation for a size; only
+     *        the returned Runnable is timed
+     */
+    private static void assertRatio(String name, double maxRatio, int n,
+            IntFunction<Runnable> setup) {
+        best(setup, n); // warm up the JIT
+        best(setup, 2 * n);
+        long small = best(setup, n);
+        long large = best(setup, 2 * n);
+        double ratio = (double) large / Math.max(small, 1);
+        assertTrue(String.format("%s: %,d ns for n = %,d but %,d ns for n = %,d (ratio %.2f, limit %.1f)",
+                name, small, n, large, 2 * n, ratio, maxRatio), ratio <= maxRatio);
+    }
+
+    /** Returns the fastest of several timed runs, in nanoseconds. */
+    private static long best(IntFunction<Runnable> setup, int n) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            Runnable operation = setup.apply(n);
+            long start = System.nanoTime();
+            operation.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,18 @@
+package linkedlists;
+
+import java.util.Random;
+
+/**
+ * Runs the list conformance suite against CopyOnWriteLinkedList.
+ */
+public class CopyOnWriteLinkedListTest extends ListConformanceTest<Integer> {
+    @Override
+    protected List<Integer> newList() {
+        return new CopyOnWriteLinkedList<>();
+    }
+
+    @Override
+    protected Integer randomElement(Random random) {
+        return random.nextInt(50);
+    }
+}
@@ -0,0 +1,144 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for LinkedCache and SegmentedLinkedCache.
+ */
+public class LinkedCacheTest {
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2, EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        cache.put("c", 3);
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    public void lfuEvictsLeastFrequentlyUsed() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2, EvictionPolicy.LFU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.put("c", 3); // b was used less often than a
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        cache.put("d", 4); // c has been used once, a three times
+        assertFalse(cache.containsKey("c"));
+        assertTrue(cache.containsKey("a"));
+    }
+
+    @Test
+    public void weightedEntriesEvictUntilTheyFit() {
+        LinkedCache<String, String> cache =
+                new LinkedCache<>(10, EvictionPolicy.LRU, (key, value) -> value.length());
+        ArrayList<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+        cache.put("a", "xxxx");
+        cache.put("b", "xxxx");
+        cache.put("c", "xxxxxxx");
+        assertEquals(Arrays.asList("a", "b"), evicted);
+        assertEquals(7, cache.weight());
+        try {
+            cache.put("d", "xxxxxxxxxxx");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(cache.containsKey("c")); // nothing was evicted for it
+        }
+    }
+
+    @Test
+    public void hitAndMissCounts() {
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(4, EvictionPolicy.LRU);
+        cache.put(1, 1);
+        cache.get(1);
+        cache.get(2);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate(), 0.0);
+    }
+
+    @Test
+    public void lruMatchesAccessOrderedLinkedHashMap() {
+        int capacity = 16;
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(capacity, EvictionPolicy.LRU);
+        Map<Integer, Integer> model = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        Random random = new Random(3);
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(40);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals("step " + step, model.put(key, step), cache.put(key, step));
+                    break;
+                case 1:
+                    assertEquals("step " + step, model.get(key), cache.get(key));
+                    break;
+                default:
+                    assertEquals("step " + step, model.remove(key), cache.remove(key));
+                    break;
+            }
+            assertEquals("step " + step, model.size(), cache.size());
+        }
+    }
+
+    @Test
+    public void segmentedCacheSmallerThanItsSegmentCountAcceptsEveryKey() {
+        SegmentedLinkedCache<Integer, Integer> cache =
+                new SegmentedLinkedCache<>(4, EvictionPolicy.LRU, 8);
+        for (int key = 0; key < 100; key++) {
+            cache.put(key, key);
+        }
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void segmentedCacheStaysWithinCapacity() throws InterruptedException {
+        SegmentedLinkedCache<Integer, Integer> cache =
+                new SegmentedLinkedCache<>(100, EvictionPolicy.LFU, 4);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    int key = random.nextInt(500);
+                    if (cache.get(key) == null) {
+                        cache.put(key, key);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 100);
+        assertEquals(80_000, cache.hitCount() + cache.missCount());
+        assertNull(cache.remove(-1));
+    }
+}
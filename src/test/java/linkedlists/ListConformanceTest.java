@@ -0,0 +1,207 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Shared conformance suite for implementations of {@link List}.
+ * Runs long random sequences of operations against a list and against an
+ * ArrayList model of it, and checks that both agree after every step,
+ * including which calls throw ListException.
+ *
+ * The model holds a key for each element (see {@link #key}), so lists that
+ * hand out fresh objects, like the coin lists, can still be compared.
+ * Subclasses supply the list and random elements.
+ *
+ * @param <T> the type of elements in the list under test
+ */
+public abstract class ListConformanceTest<T> {
+    /** Operations per random run */
+    private static final int OPERATIONS = 5_000;
+
+    /**
+     * Creates the empty list to test.
+     *
+     * @return a new empty list
+     * @throws Exception if the list cannot be created
+     */
+    protected abstract List<T> newList() throws Exception;
+
+    /**
+     * Creates a random element. Elements should often repeat so that
+     * duplicates, contains and countUniques are exercised.
+     *
+     * @param random the source of randomness
+     * @return an element
+     */
+    protected abstract T randomElement(Random random);
+
+    /**
+     * Returns the value the model compares an element by.
+     * Must agree with how the list compares elements.
+     *
+     * @param element the element
+     * @return the comparison key
+     */
+    protected Object key(T element) {
+        return element;
+    }
+
+    /**
+     * Whether the list keeps its elements sorted by key, as SortedLinkedList does.
+     *
+     * @return true for sorted lists
+     */
+    protected boolean isSorted() {
+        return false;
+    }
+
+    @Test
+    public void newListIsEmpty() throws Exception {
+        List<T> list = newList();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.countUniques());
+    }
+
+    @Test
+    public void emptyListThrowsListException() throws Exception {
+        List<T> list = newList();
+        expectListException(() -> list.removeFirst());
+        expectListException(() -> list.get(0));
+        expectListException(() -> list.remove(0));
+        expectListException(() -> list.insert(1, randomElement(new Random(1))));
+        expectListException(() -> list.insert(-1, randomElement(new Random(1))));
+    }
+
+    @Test
+    public void randomOperationsMatchArrayList() throws Exception {
+        for (long seed = 1; seed <= 5; seed++) {
+            runRandom(seed);
+        }
+    }
+
+    /** Runs one random operation sequence, failing with the seed and step on mismatch. */
+    private void runRandom(long seed) throws Exception {
+        Random random = new Random(seed);
+        List<T> list = newList();
+        ArrayList<Object> model = new ArrayList<>();
+        for (int step = 0; step < OPERATIONS; step++) {
+            String where = "seed " + seed + ", step " + step;
+            T element = randomElement(random);
+            Object key = key(element);
+            // positions run one past each end so bounds are checked too
+            int position = random.nextInt(model.size() + 3) - 1;
+            switch (random.nextInt(10)) {
+                case 0:
+                    list.add(element);
+                    modelAdd(model, key, true);
+                    break;
+                case 1:
+                    list.addLast(element);
+                    modelAdd(model, key, false);
+                    break;
+                case 2:
+                    if (position < 0 || position > model.size() || !fitsOrder(model, position, key)) {
+                        expectListException(() -> list.insert(position, element));
+                    } else {
+                        list.insert(position, element);
+                        model.add(position, key);
+                    }
+                    break;
+                case 3:
+                    if (position < 0 || position >= model.size()) {
+                        expectListException(() -> list.get(position));
+                    } else {
+                        assertEquals(where, model.get(position), key(list.get(position)));
+                    }
+                    break;
+                case 4:
+                    assertEquals(where, model.remove(key), list.remove(element));
+                    break;
+                case 5:
+                    if (model.isEmpty()) {
+                        expectListException(() -> list.removeFirst());
+                    } else {
+                        assertEquals(where, model.remove(0), key(list.removeFirst()));
+                    }
+                    break;
+                case 6:
+                    if (position < 0 || position >= model.size()) {
+                        expectListException(() -> list.remove(position));
+                    } else {
+                        assertEquals(where, model.remove(position), key(list.remove(position)));
+                    }
+                    break;
+                case 7:
+                    assertEquals(where, model.contains(key), list.contains(element));
+                    break;
+                case 8:
+                    assertEquals(where, new HashSet<>(model).size(), list.countUniques());
+                    break;
+                default:
+                    assertContents(where, model, list);
+                    break;
+            }
+            assertEquals(where, model.size(), list.size());
+            assertEquals(where, model.isEmpty(), list.isEmpty());
+        }
+        assertContents("seed " + seed + ", end", model, list);
+    }
+
+    /** Adds a key to the model where the list under test would put it. */
+    @SuppressWarnings("unchecked")
+    private void modelAdd(ArrayList<Object> model, Object key, boolean front) {
+        if (!isSorted()) {
+            model.add(front ? 0 : model.size(), key);
+            return;
+        }
+        int i = 0;
+        while (i < model.size() && ((Comparable<Object>) model.get(i)).compareTo(key) <= 0) {
+            i++;
+        }
+        model.add(i, key);
+    }
+
+    /** Checks whether a sorted list would accept the key at a position. */
+    @SuppressWarnings("unchecked")
+    private boolean fitsOrder(ArrayList<Object> model, int position, Object key) {
+        if (!isSorted()) {
+            return true;
+        }
+        Comparable<Object> k = (Comparable<Object>) key;
+        boolean afterPrev = position == 0 || k.compareTo(model.get(position - 1)) >= 0;
+        boolean beforeNext = position == model.size() || k.compareTo(model.get(position)) <= 0;
+        return afterPrev && beforeNext;
+    }
+
+    /** Checks every element of the list against the model, by position. */
+    private void assertContents(String where, ArrayList<Object> model, List<T> list) {
+        assertEquals(where, model.size(), list.size());
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(where + ", position " + i, model.get(i), key(list.get(i)));
+        }
+    }
+
+    /** A call that is expected to throw. */
+    interface ListCall {
+        void run() throws Exception;
+    }
+
+    /** Fails unless the call throws ListException. */
+    static void expectListException(ListCall call) throws Exception {
+        try {
+            call.run();
+        } catch (ListException e) {
+            return;
+        }
+        fail("Expected ListException");
+    }
+}
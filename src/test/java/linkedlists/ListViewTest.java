@@ -0,0 +1,128 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import coins.Coin;
+import coins.Denomination;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for ListView: each operation on its own and in chains, through
+ * both the push-based terminal operations and the iterator.
+ */
+public class ListViewTest {
+
+    @Test
+    public void filterMapLimitConcat() {
+        SingleLinkedList<Integer> list = listOf(1, 2, 3, 4, 5, 6);
+        ListView<Integer> evens = list.view().filter(x -> x % 2 == 0);
+        assertEquals(3, evens.count());
+        assertEquals(120, evens.map(x -> x * 10).sum(x -> x));
+        assertEquals("[2, 4]", elements(evens.limit(2)).toString());
+        assertEquals("[2, 1, 2, 3]", elements(evens.limit(1).concat(list.view().limit(3))).toString());
+        assertEquals(0, list.view().limit(0).count());
+    }
+
+    @Test
+    public void limitBeforeConcatDoesNotStopTheSecondView() {
+        SingleLinkedList<Integer> list = listOf(1, 2, 3);
+        ListView<Integer> view = list.view().limit(1).concat(list.view());
+        assertEquals(4, view.count());
+        long[] seen = new long[1];
+        view.forEach(x -> seen[0]++);
+        assertEquals(4, seen[0]);
+    }
+
+    @Test
+    public void viewSeesTheListWhenEvaluated() {
+        SingleLinkedList<Integer> list = listOf(1, 2);
+        ListView<Integer> view = list.view().map(x -> x + 1);
+        list.addLast(3);
+        assertEquals(9, view.sum(x -> x));
+    }
+
+    @Test
+    public void pushAndIteratorAgreeOnRandomChains() {
+        Random random = new Random(4);
+        for (int round = 0; round < 300; round++) {
+            SingleLinkedList<Integer> list = new SingleLinkedList<>();
+            int size = random.nextInt(20);
+            for (int i = 0; i < size; i++) {
+                list.addLast(random.nextInt(10));
+            }
+            ListView<Integer> view = list.view();
+            for (int depth = random.nextInt(5); depth > 0; depth--) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        int modulus = 2 + random.nextInt(3);
+                        view = view.filter(x -> x % modulus != 0);
+                        break;
+                    case 1:
+                        view = view.map(x -> x + 1);
+                        break;
+                    case 2:
+                        view = view.limit(random.nextInt(8));
+                        break;
+                    default:
+                        view = view.concat(list.view().limit(random.nextInt(4)));
+                        break;
+                }
+            }
+            ArrayList<Integer> pushed = new ArrayList<>();
+            view.forEach(pushed::add);
+            assertEquals("round " + round, elements(view), pushed);
+            assertEquals("round " + round, pushed.size(), view.count());
+            assertEquals("round " + round, new HashSet<>(pushed).size(), view.countDistinct());
+        }
+    }
+
+    @Test
+    public void sumCentsOfCoins() {
+        SingleLinkedList<Coin> coins = new SingleLinkedList<>();
+        long expected = 0;
+        for (Denomination d : Denomination.values()) {
+            coins.add(d.newCoin());
+            expected += d.getCents();
+        }
+        assertEquals(expected, ListView.sumCents(coins.view()));
+        assertEquals(expected, ListView.sumCents(ListView.of(coins.view())));
+    }
+
+    @Test
+    public void iteratorEnds() {
+        Iterator<Integer> it = listOf(1).view().filter(x -> x > 5).iterator();
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    /** Collects the elements of a view through its iterator. */
+    private static ArrayList<Integer> elements(ListView<Integer> view) {
+        ArrayList<Integer> result = new ArrayList<>();
+        for (Integer element : view) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    private static SingleLinkedList<Integer> listOf(int... elements) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int element : elements) {
+            list.addLast(element);
+        }
+        return list;
+    }
+}
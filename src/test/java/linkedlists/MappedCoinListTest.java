@@ -0,0 +1,199 @@
+package linkedlists;
+
+import coins.Coin;
+import coins.Denomination;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Runs the list conformance suite against MappedCoinList, with each list
+ * in its own file in a temporary folder.
+ */
+public class MappedCoinListTest extends ListConformanceTest<Coin> {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The lists opened by this test, closed after it */
+    private final java.util.List<MappedCoinList> opened = new java.util.ArrayList<>();
+
+    @After
+    public void closeLists() throws IOException {
+        for (MappedCoinList list : opened) {
+            list.close();
+        }
+    }
+
+    @Test
+    public void reopenedListKeepsItsCoins() throws IOException {
+        Path file = folder.newFile().toPath();
+        Random random = new Random(7);
+        java.util.List<Integer> model = new java.util.ArrayList<>();
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            for (int i = 0; i < 1_000; i++) {
+                Coin coin = randomElement(random);
+                list.addLast(coin);
+                model.add(Denomination.pack(coin));
+                if (random.nextInt(4) == 0) {
+                    int position = random.nextInt(model.size());
+                    list.remove(position);
+                    model.remove(position);
+                }
+            }
+        }
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            assertEquals(model.size(), list.size());
+            for (int i = 0; i < model.size(); i++) {
+                assertEquals(model.get(i), key(list.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void listLeftDirtyIsRecoveredOnReopen() throws IOException {
+        Path file = folder.newFile().toPath();
+        java.util.List<Integer> model = new java.util.ArrayList<>();
+        // released without close, as if the process died after the sync
+        MappedCoinList dirty = new MappedCoinList(file);
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            Coin coin = randomElement(random);
+            dirty.addLast(coin);
+            model.add(Denomination.pack(coin));
+        }
+        dirty.remove(0);
+        model.remove(0);
+        dirty.sync();
+        dirty.closeUncleanly();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(16); // tail and size, which only a clean close vouches for
+            raf.writeLong(-1);
+            raf.writeLong(-1);
+        }
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            assertEquals(model.size(), list.size());
+            for (int i = 0; i < model.size(); i++) {
+                assertEquals(model.get(i), key(list.get(i)));
+            }
+            Coin coin = randomElement(random);
+            list.addLast(coin);
+            assertEquals(Denomination.pack(coin), key(list.get(model.size())));
+        }
+    }
+
+    @Test
+    public void addLastStoppedAtItsLinkIsRecovered() throws Exception {
+        Path file = folder.newFile().toPath();
+        java.util.List<Integer> model = cleanFile(file, 5);
+        MappedCoinList list = new MappedCoinList(file);
+        Coin coin = Denomination.unpack(3);
+        dieAtCommit(list, () -> list.addLast(coin));
+        model.add(Denomination.pack(coin)); // the link was written
+        assertReopensAs(file, model);
+    }
+
+    @Test
+    public void removeStoppedAtItsLinkIsRecovered() throws Exception {
+        Path file = folder.newFile().toPath();
+        java.util.List<Integer> model = cleanFile(file, 5);
+        MappedCoinList list = new MappedCoinList(file);
+        dieAtCommit(list, () -> list.remove(4));
+        model.remove(4);
+        assertReopensAs(file, model);
+    }
+
+    @Test
+    public void insertStoppedWhileTheFileWasCleanIsRecovered() throws Exception {
+        Path file = folder.newFile().toPath();
+        java.util.List<Integer> model = cleanFile(file, 4);
+        MappedCoinList list = new MappedCoinList(file);
+        assertEquals(1, cleanFlag(file));
+        Coin coin = Denomination.unpack(9);
+        dieAtCommit(list, () -> list.insert(2, coin));
+        assertEquals(0, cleanFlag(file)); // cleared before the link was written
+        model.add(2, Denomination.pack(coin));
+        assertReopensAs(file, model);
+    }
+
+    /** Reads the clean flag from the header of a list file. */
+    private static long cleanFlag(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(48);
+            return raf.readLong();
+        }
+    }
+
+    /** Writes a list of random coins to a file and closes it cleanly. */
+    private java.util.List<Integer> cleanFile(Path file, int size) throws IOException {
+        java.util.List<Integer> model = new java.util.ArrayList<>();
+        Random random = new Random(size);
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            for (int i = 0; i < size; i++) {
+                Coin coin = randomElement(random);
+                list.addLast(coin);
+                model.add(Denomination.pack(coin));
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Runs a mutation that stops at its commit point, as if the process
+     * died there, and releases the list without marking it clean.
+     */
+    private static void dieAtCommit(MappedCoinList list, ListCall mutation) throws Exception {
+        list.commitHook = () -> {
+            throw new IllegalStateException("process died");
+        };
+        try {
+            mutation.run();
+            fail("Expected the mutation to reach a commit point");
+        } catch (IllegalStateException e) {
+            assertEquals("process died", e.getMessage());
+        }
+        list.closeUncleanly();
+    }
+
+    /** Reopens a file and checks its coins, then that appending still works. */
+    private void assertReopensAs(Path file, java.util.List<Integer> model) throws IOException {
+        try (MappedCoinList list = new MappedCoinList(file)) {
+            assertEquals(model.size(), list.size());
+            int i = 0;
+            for (Coin coin : list) {
+                assertEquals(model.get(i++), key(coin));
+            }
+            assertEquals(model.size(), i);
+            Coin coin = Denomination.unpack(5);
+            list.addLast(coin);
+            assertEquals(model.size() + 1, list.size());
+            assertEquals(Denomination.pack(coin), key(list.get(model.size())));
+        }
+    }
+
+    @Override
+    protected List<Coin> newList() throws IOException {
+        MappedCoinList list = new MappedCoinList(folder.newFile().toPath());
+        opened.add(list);
+        return list;
+    }
+
+    @Override
+    protected Coin randomElement(Random random) {
+        return Denomination.unpack(random.nextInt(Denomination.CODE_COUNT));
+    }
+
+    @Override
+    protected Object key(Coin element) {
+        return Denomination.pack(element);
+    }
+}
@@ -0,0 +1,90 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for SingleLinkedList.apply(MutationBatch), against a model that
+ * applies each mutation by its position in the list before the batch.
+ */
+public class MutationBatchTest {
+
+    @Test
+    public void positionsReferToTheListBeforeTheBatch() {
+        SingleLinkedList<String> list = listOf("a", "b", "c");
+        list.apply(new MutationBatch<String>()
+                .remove(0).insert(3, "x").insert(1, "y").insert(1, "z").remove(2));
+        assertEquals("y -> z -> b -> x", list.toString());
+    }
+
+    @Test
+    public void randomBatchesMatchModel() {
+        Random random = new Random(9);
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        ArrayList<Integer> model = new ArrayList<>();
+        for (int round = 0; round < 500; round++) {
+            MutationBatch<Integer> batch = new MutationBatch<>();
+            // model: for each original position, the inserts before it and whether it stays
+            ArrayList<ArrayList<Integer>> before = new ArrayList<>();
+            boolean[] removed = new boolean[model.size()];
+            for (int i = 0; i <= model.size(); i++) {
+                before.add(new ArrayList<>());
+            }
+            int mutations = random.nextInt(10);
+            for (int m = 0; m < mutations; m++) {
+                if (!model.isEmpty() && random.nextBoolean()) {
+                    int position = random.nextInt(model.size());
+                    if (!removed[position]) {
+                        removed[position] = true;
+                        batch.remove(position);
+                    }
+                } else {
+                    int position = random.nextInt(model.size() + 1);
+                    int value = round * 100 + m;
+                    before.get(position).add(value);
+                    batch.insert(position, value);
+                }
+            }
+            ArrayList<Integer> expected = new ArrayList<>();
+            for (int i = 0; i <= model.size(); i++) {
+                expected.addAll(before.get(i));
+                if (i < model.size() && !removed[i]) {
+                    expected.add(model.get(i));
+                }
+            }
+            if (!model.isEmpty()) {
+                list.get(random.nextInt(model.size())); // set a finger the batch must drop
+            }
+            list.apply(batch);
+            model = expected;
+            assertEquals("round " + round, model.size(), list.size());
+            for (int i = 0; i < model.size(); i++) {
+                assertEquals("round " + round + ", position " + i, model.get(i), list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void invalidBatchLeavesListUnchanged() throws Exception {
+        SingleLinkedList<String> list = listOf("a", "b");
+        ListConformanceTest.expectListException(
+                () -> list.apply(new MutationBatch<String>().insert(0, "x").remove(2)));
+        ListConformanceTest.expectListException(
+                () -> list.apply(new MutationBatch<String>().insert(3, "x")));
+        ListConformanceTest.expectListException(
+                () -> list.apply(new MutationBatch<String>().remove(1).remove(1)));
+        assertEquals("a -> b", list.toString());
+    }
+
+    private static SingleLinkedList<String> listOf(String... elements) {
+        SingleLinkedList<String> list = new SingleLinkedList<>();
+        for (String element : elements) {
+            list.addLast(element);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,58 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import coins.Coin;
+import coins.Denomination;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Tests that ParallelCoinAggregator gives the same tally as adding each
+ * coin to a CoinTally in turn, for any number of segments.
+ */
+public class ParallelCoinAggregatorTest {
+
+    @Test
+    public void matchesSequentialTally() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(8);
+            for (int size : new int[] {0, 1, 7, 1_000, 50_001}) {
+                SingleLinkedList<Coin> coins = new SingleLinkedList<>();
+                CoinTally expected = new CoinTally();
+                for (int i = 0; i < size; i++) {
+                    Coin coin = Denomination.unpack(random.nextInt(Denomination.CODE_COUNT));
+                    coins.add(coin);
+                    expected.add(coin);
+                }
+                for (int segments : new int[] {1, 3, 16, 100_000}) {
+                    CoinTally actual = new ParallelCoinAggregator(pool, segments).aggregate(coins);
+                    String where = size + " coins, " + segments + " segments";
+                    assertEquals(where, expected.getCount(), actual.getCount());
+                    assertEquals(where, expected.getTotalCents(), actual.getTotalCents());
+                    assertEquals(where, expected.getHeads(), actual.getHeads());
+                    assertEquals(where, expected.getTails(), actual.getTails());
+                    assertEquals(where, expected.getCountByType(), actual.getCountByType());
+                    assertEquals(where, expected.getCountByColor(), actual.getCountByColor());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void segmentCountMustBePositive() {
+        try {
+            new ParallelCoinAggregator(ForkJoinPool.commonPool(), 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
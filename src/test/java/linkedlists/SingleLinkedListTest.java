@@ -0,0 +1,140 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Runs the list conformance suite against SingleLinkedList, and checks the
+ * operations that relink nodes (reverse, splitAt, rotate, concat) mixed
+ * with positional access, so a stale finger would be caught.
+ */
+public class SingleLinkedListTest extends ListConformanceTest<Integer> {
+    @Override
+    protected List<Integer> newList() {
+        return new SingleLinkedList<>();
+    }
+
+    @Override
+    protected Integer randomElement(Random random) {
+        return random.nextInt(50);
+    }
+
+    @Test
+    public void pollFirstAndTryGetReturnNull() {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        assertNull(list.pollFirst());
+        assertNull(list.tryGet(0));
+        list.add(4);
+        assertNull(list.tryGet(1));
+        assertNull(list.tryGet(-1));
+        assertEquals(Integer.valueOf(4), list.tryGet(0));
+        assertEquals(Integer.valueOf(4), list.pollFirst());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void reverseSplitRotateConcat() throws Exception {
+        SingleLinkedList<Integer> list = listOf(1, 2, 3, 4, 5);
+        list.reverse();
+        assertEquals("5 -> 4 -> 3 -> 2 -> 1", list.toString());
+        SingleLinkedList<Integer> tail = list.splitAt(2);
+        assertEquals("5 -> 4", list.toString());
+        assertEquals("3 -> 2 -> 1", tail.toString());
+        tail.rotate(1);
+        assertEquals("2 -> 1 -> 3", tail.toString());
+        tail.rotate(-4);
+        assertEquals("3 -> 2 -> 1", tail.toString());
+        list.concat(tail);
+        assertEquals("5 -> 4 -> 3 -> 2 -> 1", list.toString());
+        assertEquals(0, tail.size());
+        assertEquals(5, list.size());
+        ListConformanceTest.expectListException(() -> list.splitAt(6));
+        ListConformanceTest.expectListException(() -> list.concat(list));
+    }
+
+    @Test
+    public void relinkingKeepsPositionalAccessRight() {
+        Random random = new Random(11);
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        ArrayList<Integer> model = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            list.addLast(i);
+            model.add(i);
+        }
+        for (int step = 0; step < 5_000; step++) {
+            String where = "step " + step;
+            int position = model.isEmpty() ? 0 : random.nextInt(model.size());
+            switch (random.nextInt(8)) {
+                case 0:
+                    list.reverse();
+                    Collections.reverse(model);
+                    break;
+                case 1: {
+                    int at = random.nextInt(model.size() + 1);
+                    SingleLinkedList<Integer> rest = list.splitAt(at);
+                    ArrayList<Integer> restModel = new ArrayList<>(model.subList(at, model.size()));
+                    model.subList(at, model.size()).clear();
+                    assertContents(where, restModel, rest);
+                    if (!rest.isEmpty()) {
+                        rest.get(rest.size() / 2); // leave a finger in the other list
+                    }
+                    list.concat(rest);
+                    model.addAll(restModel);
+                    break;
+                }
+                case 2: {
+                    int distance = random.nextInt(2 * model.size() + 1) - model.size();
+                    list.rotate(distance);
+                    if (!model.isEmpty()) {
+                        Collections.rotate(model, -distance);
+                    }
+                    break;
+                }
+                case 3:
+                    list.insert(position, step);
+                    model.add(position, step);
+                    break;
+                case 4:
+                    if (!model.isEmpty()) {
+                        assertEquals(where, model.remove(position), list.remove(position));
+                    }
+                    break;
+                case 5:
+                    list.add(step);
+                    model.add(0, step);
+                    break;
+                default:
+                    if (!model.isEmpty()) {
+                        assertEquals(where, model.get(position), list.get(position));
+                    }
+                    break;
+            }
+            assertEquals(where, model.size(), list.size());
+        }
+        assertContents("end", model, list);
+    }
+
+    /** Returns a list of the given elements, in order. */
+    private static SingleLinkedList<Integer> listOf(int... elements) {
+        SingleLinkedList<Integer> list = new SingleLinkedList<>();
+        for (int element : elements) {
+            list.addLast(element);
+        }
+        return list;
+    }
+
+    /** Checks a list against a model, reading forward so the finger is used. */
+    private static void assertContents(String where, ArrayList<Integer> model,
+            SingleLinkedList<Integer> list) {
+        assertEquals(where, model.size(), list.size());
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(where + ", position " + i, model.get(i), list.get(i));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package linkedlists;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ * Runs the list conformance suite against SortedLinkedList, and checks
+ * merge, intersect and dedup against sorted ArrayList models.
+ */
+public class SortedLinkedListTest extends ListConformanceTest<Integer> {
+    @Override
+    protected List<Integer> newList() {
+        return new SortedLinkedList<>();
+    }
+
+    @Override
+    protected Integer randomElement(Random random) {
+        return random.nextInt(50);
+    }
+
+    @Override
+    protected boolean isSorted() {
+        return true;
+    }
+
+    @Test
+    public void mergeMatchesSortedModel() throws Exception {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            ArrayList<Integer> a = randomValues(random);
+            ArrayList<Integer> b = randomValues(random);
+            SortedLinkedList<Integer> list = sortedOf(a);
+            SortedLinkedList<Integer> other = sortedOf(b);
+            list.merge(other);
+            a.addAll(b);
+            Collections.sort(a);
+            assertContents("round " + round, a, list);
+            assertEquals(0, other.size());
+            list.add(-1); // still a well-formed list after relinking
+            assertEquals(Integer.valueOf(-1), list.get(0));
+        }
+        SortedLinkedList<Integer> list = sortedOf(randomValues(random));
+        ListConformanceTest.expectListException(() -> list.merge(list));
+    }
+
+    @Test
+    public void mergeKeepsEqualElementsFromThisListFirst() {
+        SortedLinkedList<Tagged> list = new SortedLinkedList<>();
+        SortedLinkedList<Tagged> other = new SortedLinkedList<>();
+        list.add(new Tagged(1, "a"));
+        list.add(new Tagged(2, "a"));
+        other.add(new Tagged(1, "b"));
+        other.add(new Tagged(2, "b"));
+        other.add(new Tagged(3, "b"));
+        list.merge(other);
+        assertEquals("1a -> 1b -> 2a -> 2b -> 3b", list.toString());
+    }
+
+    @Test
+    public void intersectMatchesMultisetModel() {
+        Random random = new Random(6);
+        for (int round = 0; round < 200; round++) {
+            ArrayList<Integer> a = randomValues(random);
+            ArrayList<Integer> b = randomValues(random);
+            SortedLinkedList<Integer> list = sortedOf(a);
+            SortedLinkedList<Integer> other = sortedOf(b);
+            list.intersect(other);
+            ArrayList<Integer> expected = new ArrayList<>();
+            ArrayList<Integer> unmatched = new ArrayList<>(b);
+            Collections.sort(a);
+            for (Integer value : a) {
+                if (unmatched.remove(value)) {
+                    expected.add(value);
+                }
+            }
+            assertContents("round " + round, expected, list);
+            assertEquals(b.size(), other.size());
+        }
+    }
+
+    @Test
+    public void mergeThenDedupIsSetUnion() throws Exception {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            ArrayList<Integer> a = randomValues(random);
+            ArrayList<Integer> b = randomValues(random);
+            SortedLinkedList<Integer> list = sortedOf(a);
+            list.merge(sortedOf(b));
+            TreeSet<Integer> union = new TreeSet<>(a);
+            union.addAll(b);
+            assertEquals("round " + round, a.size() + b.size() - union.size(), list.dedup());
+            assertContents("round " + round, new ArrayList<>(union), list);
+            assertEquals(0, list.dedup());
+        }
+    }
+
+    @Test
+    public void dedupKeepsTheEarliestOfEqualElements() {
+        SortedLinkedList<Tagged> list = new SortedLinkedList<>();
+        list.add(new Tagged(1, "a"));
+        list.add(new Tagged(1, "b"));
+        list.add(new Tagged(2, "a"));
+        list.add(new Tagged(3, "a"));
+        list.add(new Tagged(3, "b"));
+        list.add(new Tagged(3, "c"));
+        assertEquals(3, list.dedup());
+        assertEquals("1a -> 2a -> 3a", list.toString());
+        assertEquals(3, list.size());
+        assertEquals(0, new SortedLinkedList<Tagged>().dedup());
+    }
+
+    /** Returns up to 30 random values from a small range, so many repeat. */
+    private static ArrayList<Integer> randomValues(Random random) {
+        ArrayList<Integer> values = new ArrayList<>();
+        int count = random.nextInt(30);
+        for (int i = 0; i < count; i++) {
+            values.add(random.nextInt(20));
+        }
+        return values;
+    }
+
+    private static SortedLinkedList<Integer> sortedOf(ArrayList<Integer> values) {
+        SortedLinkedList<Integer> list = new SortedLinkedList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static void assertContents(String where, ArrayList<Integer> model, SortedLinkedList<Integer> list) {
+        assertEquals(where, model.size(), list.size());
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(where + ", position " + i, model.get(i), list.get(i));
+        }
+    }
+
+    /** A value compared by key only, with a tag to tell equal values apart. */
+    private static final class Tagged implements Comparable<Tagged> {
+        private final int key;
+        private final String tag;
+
+        Tagged(int key, String tag) {
+            this.key = key;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(key, other.key);
+        }
+
+        @Override
+        public String toString() {
+            return key + tag;
+        }
+    }
+}